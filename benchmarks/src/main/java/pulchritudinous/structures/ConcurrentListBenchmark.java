@@ -0,0 +1,87 @@
+package pulchritudinous.structures;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/*
+ * Threads sharing one list, each making `ratio` reads for every write, through a ConcurrentList
+ * against the same ArrayList guarded by synchronized.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class ConcurrentListBenchmark {
+
+  private static final int SIZE = 1 << 10;
+
+  @Param({"1", "10", "100", "1000"})
+  private int ratio;
+
+  @Param({"stamped", "synchronized"})
+  private String locking;
+
+  private boolean isStamped;
+  private ArrayList<Integer> synchronizedList;
+  private ConcurrentList<Integer> concurrentList;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    isStamped = locking.equals("stamped");
+    synchronizedList = new ArrayList<>();
+    concurrentList = new ConcurrentList<>(new ArrayList<>());
+    for (Integer item : Items.ascending(SIZE)) {
+      synchronizedList.add(item);
+      concurrentList.add(item);
+    }
+  }
+
+  @State(Scope.Thread)
+  public static class Cursor {
+    private int operation;
+    private int index;
+
+    private boolean isWrite(int ratio) {
+      return operation++ % (ratio + 1) == ratio;
+    }
+
+    private int nextIndex() {
+      return index = (index + 1) & (SIZE - 1);
+    }
+  }
+
+  @Benchmark
+  public Integer readAndWrite(Cursor cursor) {
+    int index = cursor.nextIndex();
+    if (cursor.isWrite(ratio)) {
+      if (isStamped) {
+        return concurrentList.set(index, index);
+      }
+      synchronized (synchronizedList) {
+        return synchronizedList.set(index, index);
+      }
+    } else {
+      if (isStamped) {
+        return concurrentList.get(index);
+      }
+      synchronized (synchronizedList) {
+        return synchronizedList.get(index);
+      }
+    }
+  }
+}
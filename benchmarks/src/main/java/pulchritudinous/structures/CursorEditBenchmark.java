@@ -0,0 +1,60 @@
+package pulchritudinous.structures;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/* Editor-like inserts and removals around a cursor that wanders a few items at a time through the middle of the list. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class CursorEditBenchmark {
+
+  private static final int MAX_STEP = 8;
+  private static final int STEPS = 1 << 12;
+
+  @Param
+  public ListImplementation implementation;
+
+  @Param({"1000", "100000", "1000000"})
+  public int size;
+
+  private List<Integer> list;
+  private int[] steps;
+  private int step;
+  private int cursor;
+  private Integer item;
+
+  @Setup
+  public void setUp() {
+    list = implementation.newListOf(Items.ascending(size));
+    steps = new int[STEPS];
+    Random random = new Random(0x5EED);
+    for (int i = 0; i < STEPS; i++) {
+      steps[i] = random.nextInt(2 * MAX_STEP + 1) - MAX_STEP;
+    }
+    cursor = size >> 1;
+    item = list.get(cursor);
+  }
+
+  /* Inserts at the cursor and removes just after it, which keeps the size steady. */
+  @Benchmark
+  public void edit() {
+    cursor = Math.max(0, Math.min(size - 2, cursor + steps[step++ & (STEPS - 1)]));
+    list.insertAt(item, cursor);
+    list.removeAt(cursor + 1);
+  }
+}
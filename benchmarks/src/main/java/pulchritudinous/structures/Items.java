@@ -0,0 +1,31 @@
+package pulchritudinous.structures;
+
+import java.util.Random;
+
+final class Items {
+
+  private static final long SEED = 0x5EEDL;
+
+  private Items() {
+  }
+
+  static Integer[] ascending(int size) {
+    Integer[] items = new Integer[size];
+    for (int i = 0; i < size; i++) {
+      items[i] = i;
+    }
+    return items;
+  }
+
+  static Integer[] shuffled(int size) {
+    Integer[] items = ascending(size);
+    Random random = new Random(SEED);
+    for (int i = size - 1; i > 0; i--) {
+      int j = random.nextInt(i + 1);
+      Integer item = items[i];
+      items[i] = items[j];
+      items[j] = item;
+    }
+    return items;
+  }
+}
@@ -0,0 +1,68 @@
+package pulchritudinous.structures;
+
+public enum ListImplementation {
+  ARRAY_LIST {
+    @Override
+    <E> List<E> newEmptyList() {
+      return new ArrayList<>();
+    }
+  },
+  GAP_BUFFER_LIST {
+    @Override
+    <E> List<E> newEmptyList() {
+      return new GapBufferList<>();
+    }
+  },
+  LINKED_LIST {
+    @Override
+    <E> List<E> newEmptyList() {
+      return new LinkedList<>();
+    }
+  },
+  INDEXED_LINKED_LIST {
+    @Override
+    <E> List<E> newEmptyList() {
+      return new LinkedList<>(true);
+    }
+  },
+  UNROLLED_LINKED_LIST {
+    @Override
+    <E> List<E> newEmptyList() {
+      return new UnrolledLinkedList<>();
+    }
+  },
+  PERSISTENT_VECTOR {
+    @Override
+    <E> List<E> newEmptyList() {
+      return new PersistentVector<>();
+    }
+  },
+  TREE_LIST {
+    @Override
+    <E> List<E> newEmptyList() {
+      return new TreeList<>();
+    }
+  },
+  JAVA_UTIL_ARRAY_LIST {
+    @Override
+    <E> List<E> newEmptyList() {
+      return new JavaUtilList<>(java.util.ArrayList::new);
+    }
+  },
+  JAVA_UTIL_LINKED_LIST {
+    @Override
+    <E> List<E> newEmptyList() {
+      return new JavaUtilList<>(java.util.LinkedList::new);
+    }
+  };
+
+  abstract <E> List<E> newEmptyList();
+
+  <E> List<E> newListOf(E[] items) {
+    List<E> list = newEmptyList();
+    for (E item : items) {
+      list.add(item);
+    }
+    return list;
+  }
+}
@@ -0,0 +1,57 @@
+package pulchritudinous.structures;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/* Steady-state churn on a LinkedList with and without a node pool; the GC profiler shows what each allocates. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NodePoolBenchmark {
+
+  private static final int SIZE = 1000;
+  private static final int BATCH = 64;
+
+  @Param({"0", "64"})
+  public int poolCapacity;
+
+  private LinkedList<Integer> list;
+  private Integer item;
+
+  @Setup
+  public void setUp() {
+    list = new LinkedList<>(false, poolCapacity);
+    for (Integer item : Items.ascending(SIZE)) {
+      list.add(item);
+    }
+    item = list.first();
+  }
+
+  @Benchmark
+  public void addAndPoll() {
+    for (int i = 0; i < BATCH; i++) {
+      list.addLast(item);
+    }
+    for (int i = 0; i < BATCH; i++) {
+      list.poll();
+    }
+  }
+
+  @Benchmark
+  public Integer set() {
+    return list.set(item, 1);
+  }
+}
@@ -0,0 +1,69 @@
+package pulchritudinous.structures;
+
+import java.util.Comparator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/* Shows how ArrayList.parallelSort scales with the number of cores it is given, against sort. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class ParallelSortBenchmark {
+
+  @Param({"1", "2", "4", "8", "16", "32"})
+  public int parallelism;
+
+  @Param({"100000", "1000000", "10000000"})
+  public int size;
+
+  private Integer[] items;
+  private ForkJoinPool pool;
+  private ArrayList<Integer> list;
+
+  @Setup(Level.Trial)
+  public void setUpTrial() {
+    items = Items.shuffled(size);
+    pool = new ForkJoinPool(parallelism);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDownTrial() {
+    pool.shutdown();
+  }
+
+  @Setup(Level.Invocation)
+  public void setUpList() {
+    list = new ArrayList<>(size);
+    for (Integer item : items) {
+      list.add(item);
+    }
+  }
+
+  @Benchmark
+  public ArrayList<Integer> parallelSort() {
+    list.parallelSort(Comparator.naturalOrder(), pool);
+    return list;
+  }
+
+  @Benchmark
+  public ArrayList<Integer> sort() {
+    list.sort(Comparator.naturalOrder());
+    return list;
+  }
+}
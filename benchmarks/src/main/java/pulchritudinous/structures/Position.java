@@ -0,0 +1,24 @@
+package pulchritudinous.structures;
+
+public enum Position {
+  FRONT {
+    @Override
+    int indexIn(int size) {
+      return 0;
+    }
+  },
+  MIDDLE {
+    @Override
+    int indexIn(int size) {
+      return size >> 1;
+    }
+  },
+  BACK {
+    @Override
+    int indexIn(int size) {
+      return size - 1;
+    }
+  };
+
+  abstract int indexIn(int size);
+}
@@ -0,0 +1,67 @@
+package pulchritudinous.structures;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class PositionalBenchmark {
+
+  @Param
+  public ListImplementation implementation;
+
+  @Param({"10", "1000", "100000", "10000000"})
+  public int size;
+
+  @Param
+  public Position position;
+
+  private List<Integer> list;
+  private int index;
+  private Integer item;
+
+  @Setup
+  public void setUp() {
+    list = implementation.newListOf(Items.ascending(size));
+    index = position.indexIn(size);
+    item = list.get(index);
+  }
+
+  @Benchmark
+  public Integer get() {
+    return list.get(index);
+  }
+
+  @Benchmark
+  public int indexOf() {
+    return list.indexOf(item);
+  }
+
+  /* Removing the last item afterwards keeps the size steady, and is cheap for all but the gap buffer. */
+  @Benchmark
+  public void insertAt() {
+    list.insertAt(item, index);
+    list.removeAt(size);
+  }
+
+  /* Appending afterwards is constant-time everywhere and keeps the size steady. */
+  @Benchmark
+  public void removeAt() {
+    list.removeAt(index);
+    list.addLast(item);
+  }
+}
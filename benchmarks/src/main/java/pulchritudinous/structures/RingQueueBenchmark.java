@@ -0,0 +1,79 @@
+package pulchritudinous.structures;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/* Producers and consumers hammering the lock-free ring queues, against an ArrayList guarded by synchronized. */
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RingQueueBenchmark {
+
+  private static final int CAPACITY = 1 << 14;
+  private static final Integer ITEM = 42;
+
+  private final MpmcRingQueue<Integer> mpmcQueue = new MpmcRingQueue<>(CAPACITY);
+  private final SpscRingQueue<Integer> spscQueue = new SpscRingQueue<>(CAPACITY);
+  private final ArrayList<Integer> synchronizedList = new ArrayList<>(CAPACITY, CapacityPolicy.NEVER_SHRINK);
+
+  @Benchmark
+  @Group("mpmc")
+  @GroupThreads(2)
+  public boolean mpmcOffer() {
+    return mpmcQueue.offer(ITEM);
+  }
+
+  @Benchmark
+  @Group("mpmc")
+  @GroupThreads(2)
+  public Integer mpmcPoll() {
+    return mpmcQueue.poll();
+  }
+
+  @Benchmark
+  @Group("spsc")
+  public boolean spscOffer() {
+    return spscQueue.offer(ITEM);
+  }
+
+  @Benchmark
+  @Group("spsc")
+  public Integer spscPoll() {
+    return spscQueue.poll();
+  }
+
+  @Benchmark
+  @Group("synchronized")
+  @GroupThreads(2)
+  public boolean synchronizedOffer() {
+    synchronized (synchronizedList) {
+      if (synchronizedList.size() == CAPACITY) {
+        return false;
+      }
+      synchronizedList.addLast(ITEM);
+      return true;
+    }
+  }
+
+  @Benchmark
+  @Group("synchronized")
+  @GroupThreads(2)
+  public Integer synchronizedPoll() {
+    synchronized (synchronizedList) {
+      return synchronizedList.poll();
+    }
+  }
+}
@@ -0,0 +1,55 @@
+package pulchritudinous.structures;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class SortBenchmark {
+
+  @Param
+  public ListImplementation implementation;
+
+  @Param({"10", "1000", "100000", "10000000"})
+  public int size;
+
+  private Integer[] items;
+  private List<Integer> list;
+
+  @Setup(Level.Trial)
+  public void setUpItems() {
+    items = Items.shuffled(size);
+  }
+
+  /* Sorting and polling are destructive, so every invocation starts from a freshly built list. */
+  @Setup(Level.Invocation)
+  public void setUpList() {
+    list = implementation.newListOf(items);
+  }
+
+  @Benchmark
+  public List<Integer> sort() {
+    list.sort(Integer::compare);
+    return list;
+  }
+
+  @Benchmark
+  public List<Integer> pollMany() {
+    return list.pollMany(size >> 1);
+  }
+}
@@ -0,0 +1,49 @@
+package pulchritudinous.structures;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class TraversalBenchmark {
+
+  @Param
+  public ListImplementation implementation;
+
+  @Param({"10", "1000", "100000", "10000000"})
+  public int size;
+
+  private List<Integer> list;
+
+  @Setup
+  public void setUp() {
+    list = implementation.newListOf(Items.ascending(size));
+  }
+
+  @Benchmark
+  public List<Integer> cloneList() {
+    return list.clone();
+  }
+
+  @Benchmark
+  public void iterate(Blackhole blackhole) {
+    for (Integer item : list) {
+      blackhole.consume(item);
+    }
+  }
+}
@@ -1,9 +1,15 @@
 package pulchritudinous.structures;
 
-import java.util.Arrays;
+import java.lang.reflect.Array;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
 import java.util.Iterator;
-import java.util.function.BiFunction;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
 import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 public abstract class AbstractList<E> implements List<E> {
 
@@ -11,22 +17,77 @@ public abstract class AbstractList<E> implements List<E> {
 
   private int size;
 
+  /* Counts changes to the size or order of the items, so that iterators can fail fast when the list changes under them. */
+  protected int modCount;
+
+  /*
+   * The hash code last worked out by cachedHashCode, which holds for as long as modCount is hashModCount.
+   * Lists that cache their hash code count sorts in modCount, and call invalidateHashCode on set and replaceAll.
+   */
+  private int hash;
+  private int hashModCount;
+  private boolean isHashCached;
+
   protected AbstractList() {
     size = 0;
   }
 
   protected void incrementSize() {
     size++;
+    modCount++;
   }
 
   protected void decrementSize() {
     size--;
+    modCount++;
+  }
+
+  protected void increaseSizeBy(int n) {
+    size += n;
+    modCount++;
+  }
+
+  protected void decreaseSizeBy(int n) {
+    size -= n;
+    modCount++;
+  }
+
+  protected final int cachedHashCode() {
+    if (!hasCachedHashCode()) {
+      hash = computeHashCode();
+      hashModCount = modCount;
+      isHashCached = true;
+    }
+    return hash;
+  }
+
+  protected void invalidateHashCode() {
+    isHashCached = false;
+  }
+
+  protected void checkModCount(int expectedModCount) {
+    if (modCount != expectedModCount) {
+      throw new ConcurrentModificationException();
+    }
+  }
+
+  /* Works out the same hash code as java.util.List, without copying the items out first. */
+  protected int computeHashCode() {
+    int hash = 1;
+    for (E item : this) {
+      hash = 31 * hash + item.hashCode();
+    }
+    return hash;
   }
 
   protected abstract E findByIndex(int index);
 
   protected abstract E findByItem(E item);
 
+  private boolean hasCachedHashCode() {
+    return isHashCached && hashModCount == modCount;
+  }
+
   protected boolean isValidIndex(int index) {
     return 0 <= index && index < size;
   }
@@ -35,10 +96,19 @@ public abstract class AbstractList<E> implements List<E> {
     return isValidIndex(index) || index == size();
   }
 
+  /*
+   * Whether a read can overlap a write and simply be retried, as ConcurrentList's unlocked reads do.
+   * Lists whose reads change their own state, or touch memory that a write may free, must say no.
+   */
+  protected boolean isSafeToReadOptimistically() {
+    return true;
+  }
+
   protected abstract AbstractList<E> newEmptyList();
 
   protected void resetToEmptyState() {
     size = 0;
+    modCount++;
   }
 
   @Override
@@ -46,10 +116,18 @@ public abstract class AbstractList<E> implements List<E> {
     this.addLast(item);
   }
 
+  /* Inserts the items as one batch, so that implementations can make room for all of them at once. */
   @Override
   public void addAll(List<E> items) {
-    for (E item : items) {
-      this.add(item);
+    this.insertAll(items, size());
+  }
+
+  @Override
+  public void addAll(E[] items, int from, int to) {
+    if (0 <= from && from <= to && to <= items.length) {
+      for (int i = from; i < to; i++) {
+        this.add(items[i]);
+      }
     }
   }
 
@@ -63,6 +141,18 @@ public abstract class AbstractList<E> implements List<E> {
     this.insertAt(item, size());
   }
 
+  /* Returns a view of this list through which it can be passed to code that expects a java.util.Deque. */
+  @Override
+  public JavaDequeView<E> asJavaDeque() {
+    return new JavaDequeView<>(this);
+  }
+
+  /* Returns a view of this list through which it can be passed to code that expects a java.util.List. */
+  @Override
+  public JavaListView<E> asJavaList() {
+    return new JavaListView<>(this);
+  }
+
   @Override
   public void clear() {
     this.resetToEmptyState();
@@ -82,6 +172,29 @@ public abstract class AbstractList<E> implements List<E> {
     return findByItem(item) != null;
   }
 
+  /* Hands up to max items from the front of the list to the consumer, then removes them all at once. */
+  @Override
+  public int drainTo(Consumer<? super E> consumer, int max) {
+    int n = Math.max(0, Math.min(max, size()));
+    Iterator<E> iterator = this.iterator();
+    for (int i = 0; i < n; i++) {
+      consumer.accept(iterator.next());
+    }
+    this.removeRange(0, n);
+    return n;
+  }
+
+  @Override
+  public int drainTo(E[] items, int max) {
+    int n = Math.max(0, Math.min(Math.min(max, items.length), size()));
+    Iterator<E> iterator = this.iterator();
+    for (int i = 0; i < n; i++) {
+      items[i] = iterator.next();
+    }
+    this.removeRange(0, n);
+    return n;
+  }
+
   @Override
   public boolean equals(Object obj) {
     if (this == obj) {
@@ -91,6 +204,9 @@ public abstract class AbstractList<E> implements List<E> {
       List that = (List) obj;
       if (this.size() != that.size()) {
         return false;
+      } else if (that instanceof AbstractList && this.hasCachedHashCode() && ((AbstractList) that).hasCachedHashCode()
+          && this.hash != ((AbstractList) that).hash) {
+        return false;
       }
 
       Iterator thisIterator = this.iterator();
@@ -123,7 +239,7 @@ public abstract class AbstractList<E> implements List<E> {
 
   @Override
   public int hashCode() {
-    return Arrays.hashCode(this.toArray());
+    return computeHashCode();
   }
 
   @Override
@@ -136,14 +252,25 @@ public abstract class AbstractList<E> implements List<E> {
     int index = 0;
     for (E curr : this) {
       if (curr.equals(item)) {
+        Metrics.scanned(index + 1);
         return index;
       } else {
         index++;
       }
     }
+    Metrics.scanned(index);
     return NULL_INDEX;
   }
 
+  @Override
+  public void insertAll(List<E> items, int index) {
+    if (isValidInclusiveIndex(index)) {
+      for (Object item : items.toArray()) {
+        this.insertAt((E) item, index++);
+      }
+    }
+  }
+
   @Override
   public abstract void insertAt(E item, int index);
 
@@ -152,6 +279,11 @@ public abstract class AbstractList<E> implements List<E> {
     return size == 0;
   }
 
+  @Override
+  public Stream<E> parallelStream() {
+    return StreamSupport.stream(this.spliterator(), true);
+  }
+
   @Override
   public E poll() {
     E first = first();
@@ -166,9 +298,7 @@ public abstract class AbstractList<E> implements List<E> {
     }
 
     List<E> that = newEmptyList();
-    for (int i = 0; i < n; i++) {
-      that.add(this.poll());
-    }
+    this.drainTo(that::add, n);
     return that;
   }
 
@@ -181,6 +311,15 @@ public abstract class AbstractList<E> implements List<E> {
   @Override
   public abstract void removeAt(int index);
 
+  @Override
+  public void removeRange(int from, int to) {
+    if (0 <= from && from <= to && to <= size()) {
+      for (int i = from; i < to; i++) {
+        this.removeAt(from);
+      }
+    }
+  }
+
   @Override
   public abstract void replaceAll(UnaryOperator<E> operator);
 
@@ -193,23 +332,26 @@ public abstract class AbstractList<E> implements List<E> {
   }
 
   @Override
-  public void sort(BiFunction<E, E, Integer> comparator) {
+  public void sort(Comparator<? super E> comparator) {
     if (size() > 1) {
       /* Splits the list in half. */
       List<E> that = this.pollMany(size() >> 1);
+      Metrics.allocatedTemporaryList();
 
       /* Sorts sub-lists. */
       this.sort(comparator);
       that.sort(comparator);
 
-      /* Merges sub-lists based on the fact they are well-ordered. */
+      /* Merges sub-lists based on the fact they are well-ordered, favouring the first half on ties. */
       List<E> sorted = newEmptyList();
+      Metrics.allocatedTemporaryList();
 
       while (!this.isEmpty() && !that.isEmpty()) {
-        if (comparator.apply(this.first(), that.first()) <= 0) {
-          sorted.add(this.poll());
-        } else {
+        Metrics.compared();
+        if (comparator.compare(that.first(), this.first()) <= 0) {
           sorted.add(that.poll());
+        } else {
+          sorted.add(this.poll());
         }
       }
 
@@ -221,6 +363,25 @@ public abstract class AbstractList<E> implements List<E> {
     }
   }
 
+  @Override
+  public Spliterator<E> spliterator() {
+    return Spliterators.spliterator(this.iterator(), size(), Spliterator.ORDERED | Spliterator.NONNULL);
+  }
+
+  @Override
+  public Stream<E> stream() {
+    return StreamSupport.stream(this.spliterator(), false);
+  }
+
+  /*
+   * Returns a view of the items in [from, to), backed by this list, through which changes are made
+   * to this list directly. The view is only valid until this list changes other than through it.
+   */
+  @Override
+  public List<E> subList(int from, int to) {
+    return 0 <= from && from <= to && to <= size() ? new SubList<>(this, () -> modCount, from, to) : null;
+  }
+
   @Override
   public Object[] toArray() {
     Object[] array = new Object[size()];
@@ -230,4 +391,18 @@ public abstract class AbstractList<E> implements List<E> {
     }
     return array;
   }
+
+  /* Fills the given array if the items fit, following the contract of java.util.Collection.toArray. */
+  @Override
+  public <T> T[] toArray(T[] array) {
+    T[] target = array.length >= size() ? array : (T[]) Array.newInstance(array.getClass().getComponentType(), size());
+    int index = 0;
+    for (E item : this) {
+      target[index++] = (T) item;
+    }
+    if (target.length > index) {
+      target[index] = null;
+    }
+    return target;
+  }
 }
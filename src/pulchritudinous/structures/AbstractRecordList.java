@@ -0,0 +1,354 @@
+package pulchritudinous.structures;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.UnaryOperator;
+
+/*
+ * A list whose items are encoded by a codec into a ring of fixed-width records, held outside the heap
+ * in segments of at most a gigabyte each, so that the list can grow well beyond the two gigabyte limit
+ * of a single buffer. Subclasses decide where the segments come from and what to do once the shape of
+ * the ring changes.
+ */
+public abstract class AbstractRecordList<E> extends AbstractList<E> {
+
+  private static final int MAX_SEGMENT_BYTES = 1 << 30;
+
+  private final Codec<E> codec;
+  private final int width;
+  private final int segmentShift;
+
+  private boolean isClosed;
+  private int firstIndex;
+  private int length;
+  private ByteBuffer[] segments;
+
+  protected AbstractRecordList(Codec<E> codec) {
+    super();
+    checkWidth(codec);
+    this.codec = codec;
+    this.width = codec.width();
+    this.segmentShift = 31 - Integer.numberOfLeadingZeros(MAX_SEGMENT_BYTES / width);
+    this.isClosed = false;
+  }
+
+  protected static void checkWidth(Codec<?> codec) {
+    if (codec.width() <= 0 || codec.width() > MAX_SEGMENT_BYTES) {
+      throw new IllegalArgumentException("Codec width must be between 1 and " + MAX_SEGMENT_BYTES + " bytes.");
+    }
+  }
+
+  private static void release(ByteBuffer[] segments) {
+    for (ByteBuffer segment : segments) {
+      DirectBuffers.free(segment);
+    }
+  }
+
+  /*
+   * Returns the segments of a ring of the given length, each holding 2^segmentShift records or the
+   * whole ring if it is shorter, with the records of the given segments still at the same slots.
+   */
+  protected abstract ByteBuffer[] allocate(ByteBuffer[] segments, int length, int segmentShift, int width);
+
+  /* Called once the length of the ring, its first index or the size of the list has changed. */
+  protected void shapeChanged() {
+  }
+
+  @Override
+  protected E findByIndex(int index) {
+    assert (isValidIndex(index));
+    return getAtIndex(index);
+  }
+
+  @Override
+  protected E findByItem(E item) {
+    int index = findIndexByItem(item);
+    return index != NULL_INDEX ? getAtIndex(index) : null;
+  }
+
+  private int findIndexByItem(E item) {
+    for (int i = 0; i < size(); i++) {
+      if (getAtIndex(i).equals(item)) {
+        return i;
+      }
+    }
+    return NULL_INDEX;
+  }
+
+  /*
+   * Doubles the ring. Every slot keeps its position, so only the items that had wrapped around to the
+   * start of the ring need to move, to just past where the ring used to end.
+   */
+  private void expand() {
+    if (this.length >= CapacityPolicy.MAX_LENGTH) {
+      throw new OutOfMemoryError("Cannot hold more than " + CapacityPolicy.MAX_LENGTH + " items in a " + getClass().getSimpleName() + ".");
+    }
+
+    int length = this.length << 1;
+    ByteBuffer[] segments = allocate(this.segments, length, segmentShift, width);
+
+    int wrapped = firstIndex + size() - this.length;
+    for (int slot = 0; slot < wrapped; slot++) {
+      DirectBuffers.copy(segmentOf(segments, slot), positionOf(slot), segmentOf(segments, this.length + slot), positionOf(this.length + slot), width);
+    }
+    release(this.segments);
+
+    this.length = length;
+    this.segments = segments;
+    shapeChanged();
+  }
+
+  protected int firstIndex() {
+    return firstIndex;
+  }
+
+  private E getAtIndex(int index) {
+    int slot = offset(index);
+    return codec.decode(segmentOf(segments, slot), positionOf(slot));
+  }
+
+  protected boolean isClosed() {
+    return isClosed;
+  }
+
+  /* A read overlapping expand or close could touch a freed or unmapped buffer, which crashes the JVM. */
+  @Override
+  protected boolean isSafeToReadOptimistically() {
+    return false;
+  }
+
+  private void moveAtIndex(int from, int to) {
+    int source = offset(from);
+    int target = offset(to);
+    DirectBuffers.copy(segmentOf(segments, source), positionOf(source), segmentOf(segments, target), positionOf(target), width);
+  }
+
+  @Override
+  protected OffHeapArrayList<E> newEmptyList() {
+    return new OffHeapArrayList<>(codec);
+  }
+
+  private int offset(int index) {
+    return (firstIndex + index) & (length - 1);
+  }
+
+  private int positionOf(int slot) {
+    return (slot & ((1 << segmentShift) - 1)) * width;
+  }
+
+  /* Frees the segments and leaves the list empty for good, after which it rejects new items. */
+  protected void releaseRing() {
+    isClosed = true;
+    super.resetToEmptyState();
+    release(segments);
+    segments = new ByteBuffer[0];
+    firstIndex = 0;
+    length = 0;
+  }
+
+  @Override
+  protected void resetToEmptyState() {
+    super.resetToEmptyState();
+    firstIndex = 0;
+    if (segments != null && !isClosed) {
+      shapeChanged();
+    }
+  }
+
+  /* Replaces the ring with a newly allocated one, holding size items from firstIndex on, as on opening the list. */
+  protected void restoreRing(int length, int firstIndex, int size) {
+    ByteBuffer[] segments = allocate(new ByteBuffer[0], length, segmentShift, width);
+    if (this.segments != null) {
+      release(this.segments);
+    }
+
+    this.length = length;
+    this.firstIndex = firstIndex;
+    this.segments = segments;
+    increaseSizeBy(size);
+  }
+
+  protected ByteBuffer[] segments() {
+    return segments;
+  }
+
+  private ByteBuffer segmentOf(ByteBuffer[] segments, int slot) {
+    return segments[slot >>> segmentShift];
+  }
+
+  private void setAtIndex(E item, int index) {
+    int slot = offset(index);
+    codec.encode(item, segmentOf(segments, slot), positionOf(slot));
+  }
+
+  private void shiftDownAndReplace(int start, int end, E item) {
+    for (int i = start; i < end; i++) {
+      moveAtIndex(i + 1, i);
+    }
+    if (item != null) {
+      setAtIndex(item, end);
+    }
+  }
+
+  private void shiftUpAndReplace(int start, int end, E item) {
+    for (int i = end; i > start; i--) {
+      moveAtIndex(i - 1, i);
+    }
+    if (item != null) {
+      setAtIndex(item, start);
+    }
+  }
+
+  public int capacity() {
+    return length;
+  }
+
+  @Override
+  public void clear() {
+    if (!isClosed) {
+      super.clear();
+    }
+  }
+
+  /* Copies the items into an OffHeapArrayList, which the caller is then responsible for closing. */
+  @Override
+  public OffHeapArrayList<E> clone() {
+    OffHeapArrayList<E> clone = newEmptyList();
+    clone.addAll(this);
+    return clone;
+  }
+
+  @Override
+  public void insertAt(E item, int index) {
+    if (item == null) {
+      throw new NullPointerException("Cannot insert null into " + getClass().getSimpleName() + ".");
+    } else if (isClosed) {
+      throw new IllegalStateException("Cannot insert into a closed " + getClass().getSimpleName() + ".");
+    }
+
+    if (isValidInclusiveIndex(index)) {
+      if (size() == length) {
+        this.expand();
+      }
+
+      int midpoint = (size() >> 1);
+      if (index <= midpoint) {
+        shiftDownAndReplace(-1, index - 1, item);
+        firstIndex = offset(-1);
+      } else {
+        shiftUpAndReplace(index, size(), item);
+      }
+      incrementSize();
+      shapeChanged();
+    }
+  }
+
+  @Override
+  public Iterator<E> iterator() {
+    return new Iterator<E>() {
+      private int index = 0;
+
+      @Override
+      public boolean hasNext() {
+        return isValidIndex(index);
+      }
+
+      @Override
+      public E next() {
+        if (!hasNext()) {
+          throw new NoSuchElementException();
+        }
+        return findByIndex(index++);
+      }
+    };
+  }
+
+  @Override
+  public boolean remove(E item) {
+    int index = findIndexByItem(item);
+    if (!isValidIndex(index)) {
+      return false;
+    }
+    removeAt(index);
+    return true;
+  }
+
+  @Override
+  public void removeAll(E item) {
+    if (isClosed) {
+      return;
+    }
+
+    int size = size();
+
+    for (int i = 0, j = 0; i < size; i++) {
+      if (!getAtIndex(i).equals(item)) {
+        moveAtIndex(i, j++);
+      } else {
+        decrementSize();
+      }
+    }
+    shapeChanged();
+  }
+
+  @Override
+  public void removeAt(int index) {
+    if (isValidIndex(index)) {
+      int midpoint = (size() >> 1);
+      decrementSize();
+      if (index <= midpoint) {
+        shiftUpAndReplace(0, index, null);
+        firstIndex = offset(1);
+      } else {
+        shiftDownAndReplace(index, size(), null);
+      }
+      shapeChanged();
+    }
+  }
+
+  @Override
+  public void replaceAll(UnaryOperator<E> operator) {
+    if (isClosed) {
+      return;
+    }
+
+    for (int i = 0; i < size(); i++) {
+      E item = operator.apply(getAtIndex(i));
+      if (item == null) {
+        throw new NullPointerException("Cannot insert null into " + getClass().getSimpleName() + ".");
+      }
+      setAtIndex(item, i);
+    }
+  }
+
+  @Override
+  public E set(E item, int index) {
+    if (isClosed || !isValidIndex(index)) {
+      return null;
+    }
+    if (item == null) {
+      throw new NullPointerException("Cannot insert null into " + getClass().getSimpleName() + ".");
+    }
+
+    E prev = findByIndex(index);
+    setAtIndex(item, index);
+    return prev;
+  }
+
+  /*
+   * Decodes the items, sorts them on the heap and encodes them back in order, rather than splitting
+   * the list into temporary OffHeapArrayLists that nobody would close.
+   */
+  @Override
+  public void sort(Comparator<? super E> comparator) {
+    Object[] items = toArray();
+    modCount++;
+    Arrays.sort((E[]) items, Metrics.counting(comparator));
+    for (int i = 0; i < items.length; i++) {
+      setAtIndex((E) items[i], i);
+    }
+  }
+}
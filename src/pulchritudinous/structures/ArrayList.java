@@ -1,19 +1,52 @@
 package pulchritudinous.structures;
 
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
 import java.util.function.UnaryOperator;
 
 public class ArrayList<E> extends AbstractList<E> {
 
-  private static final int INITIAL_LENGTH = 128;
+  private static final Object[] EMPTY_CONTENTS = {};
+
+  private final CapacityPolicy policy;
 
   private int firstIndex;
   private int length;
   private Object[] contents;
 
+  /* Set once contents may also belong to a clone, in which case it is copied before it is next written to. */
+  private boolean isShared;
+
   public ArrayList() {
+    this(CapacityPolicy.DEFAULT);
+  }
+
+  public ArrayList(int capacity) {
+    this(capacity, CapacityPolicy.DEFAULT);
+  }
+
+  public ArrayList(CapacityPolicy policy) {
+    this(0, policy);
+  }
+
+  public ArrayList(int capacity, CapacityPolicy policy) {
     super();
+    if (capacity < 0) {
+      throw new IllegalArgumentException("Cannot create an ArrayList with negative capacity.");
+    }
+
+    this.policy = policy;
     this.resetToEmptyState();
+    if (capacity > 0) {
+      this.resize(CapacityPolicy.lengthFor(capacity));
+    }
   }
 
   @Override
@@ -31,59 +64,160 @@ public class ArrayList<E> extends AbstractList<E> {
   private int findIndexByItem(E item) {
     for (int i = 0; i < size(); i++) {
       if (getAtIndex(i).equals(item)) {
+        Metrics.scanned(i + 1);
         return i;
       }
     }
+    Metrics.scanned(size());
     return NULL_INDEX;
   }
 
-  private void expand() {
-    int length = this.length << 1;
-    Object[] contents = new Object[length];
+  @Override
+  protected int computeHashCode() {
+    int hash = 1;
+    for (int i = 0; i < size(); i++) {
+      hash = 31 * hash + getAtIndex(i).hashCode();
+    }
+    return hash;
+  }
 
-    for (int i = 0; i < this.size(); i++) {
-      contents[i] = getAtIndex(i);
+  private void copyIn(Object[] source, int from, int count, int index) {
+    int start = offset(index);
+    int firstCount = Math.min(count, length - start);
+    System.arraycopy(source, from, contents, start, firstCount);
+    System.arraycopy(source, from + firstCount, contents, 0, count - firstCount);
+  }
+
+  private void copyIn(ArrayList<?> source, int index) {
+    /* Both rings may wrap, so the items go across in at most three contiguous segments. */
+    for (int from = 0, count = source.size(); count > 0; ) {
+      int sourceStart = source.offset(from);
+      int targetStart = offset(index);
+      int n = Math.min(count, Math.min(source.length - sourceStart, length - targetStart));
+      System.arraycopy(source.contents, sourceStart, contents, targetStart, n);
+      from += n;
+      index += n;
+      count -= n;
     }
+  }
 
-    this.firstIndex = 0;
-    this.length = length;
-    this.contents = contents;
+  private void copyOut(Object[] target, int index, int count) {
+    int start = offset(index);
+    int firstCount = Math.min(count, length - start);
+    System.arraycopy(contents, start, target, 0, firstCount);
+    System.arraycopy(contents, 0, target, firstCount, count - firstCount);
+  }
+
+  private void ensureWritable(int capacity) {
+    if (capacity > length) {
+      resize(policy.grow(length, capacity));
+    } else {
+      unshare();
+    }
+  }
+
+  private void fill(Object item, int index, int count) {
+    /* Fills the ring from the given index in at most two contiguous segments. */
+    int start = offset(index);
+    int firstCount = Math.min(count, length - start);
+    Arrays.fill(contents, start, start + firstCount, item);
+    Arrays.fill(contents, 0, count - firstCount, item);
   }
 
   private Object getAtIndex(int index) {
     return contents[offset(index)];
   }
 
+  private void move(int from, int to, int count) {
+    /*
+     * Moves items between overlapping ranges of the ring, one contiguous segment at a time. Segments
+     * are copied away from the direction of travel so that no item is overwritten before it is moved.
+     */
+    Metrics.moved(count);
+    if (to < from) {
+      while (count > 0) {
+        int source = offset(from);
+        int target = offset(to);
+        int segment = Math.min(count, Math.min(length - source, length - target));
+        System.arraycopy(contents, source, contents, target, segment);
+        from += segment;
+        to += segment;
+        count -= segment;
+      }
+    } else if (to > from) {
+      while (count > 0) {
+        int sourceEnd = offset(from + count - 1) + 1;
+        int targetEnd = offset(to + count - 1) + 1;
+        int segment = Math.min(count, Math.min(sourceEnd, targetEnd));
+        System.arraycopy(contents, sourceEnd - segment, contents, targetEnd - segment, segment);
+        count -= segment;
+      }
+    }
+  }
+
   @Override
   protected ArrayList<E> newEmptyList() {
-    return new ArrayList<>();
+    return new ArrayList<>(policy);
+  }
+
+  private void normalize() {
+    /* Rotates the ring so that the items sit in one contiguous segment of contents. */
+    if (firstIndex + size() > length) {
+      reverse(0, length);
+      reverse(0, length - firstIndex);
+      reverse(length - firstIndex, length);
+      firstIndex = 0;
+    }
   }
 
   private int offset(int index) {
     return (firstIndex + index) & (length - 1);
   }
 
+  private void resize(int length) {
+    assert (size() <= length);
+    Metrics.resized(this.length, length, size());
+    Object[] contents = length > 0 ? new Object[length] : EMPTY_CONTENTS;
+    copyOut(contents, 0, size());
+
+    this.firstIndex = 0;
+    this.length = length;
+    this.contents = contents;
+    this.isShared = false;
+  }
+
   @Override
   protected void resetToEmptyState() {
+    /* Defers allocating the backing array until the first insert. */
     super.resetToEmptyState();
     firstIndex = 0;
-    length = INITIAL_LENGTH;
-    contents = new Object[length];
+    length = 0;
+    contents = EMPTY_CONTENTS;
+    isShared = false;
   }
 
-  private void shiftDownAndReplace(int start, int end, E item) {
-    for (int i = start; i < end; i++) {
-      Object next = getAtIndex(i + 1);
-      setAtIndex(next, i);
+  private void reverse(int start, int end) {
+    for (int i = start, j = end - 1; i < j; i++, j--) {
+      Object item = contents[i];
+      contents[i] = contents[j];
+      contents[j] = item;
     }
+  }
+
+  private void shrink() {
+    int length = policy.shrink(this.length, size());
+    if (length < this.length) {
+      resize(length);
+    }
+  }
+
+  private void shiftDownAndReplace(int start, int end, E item) {
+    move(start + 1, start, end - start);
     setAtIndex(item, end);
   }
 
   private void shiftUpAndReplace(int start, int end, E item) {
-    for (int i = end; i > start; i--) {
-      Object prev = getAtIndex(i - 1);
-      setAtIndex(prev, i);
-    }
+    move(start, start + 1, end - start);
     setAtIndex(item, start);
   }
 
@@ -91,6 +225,110 @@ public class ArrayList<E> extends AbstractList<E> {
     contents[offset(index)] = item;
   }
 
+  private void unshare() {
+    if (isShared) {
+      resize(length);
+    }
+  }
+
+  public int capacity() {
+    return length;
+  }
+
+  /* Copies straight from the ring of another ArrayList, after making room for all of its items at once. */
+  @Override
+  public void addAll(List<E> items) {
+    if (items instanceof ArrayList) {
+      ArrayList<E> source = (ArrayList<E>) items;
+      int count = source.size();
+      this.ensureWritable(size() + count);
+      copyIn(source, size());
+      increaseSizeBy(count);
+    } else {
+      super.addAll(items);
+    }
+  }
+
+  @Override
+  public void addAll(E[] items, int from, int to) {
+    if (0 <= from && from <= to && to <= items.length) {
+      for (int i = from; i < to; i++) {
+        if (items[i] == null) {
+          throw new NullPointerException("Cannot insert null into ArrayList.");
+        }
+      }
+
+      int count = to - from;
+      this.ensureWritable(size() + count);
+      copyIn(items, from, count, size());
+      increaseSizeBy(count);
+    }
+  }
+
+  /* Shares the backing array with the clone, so that neither copies it until one of them is changed. */
+  @Override
+  public ArrayList<E> clone() {
+    ArrayList<E> clone = newEmptyList();
+    clone.firstIndex = firstIndex;
+    clone.length = length;
+    clone.contents = contents;
+    clone.increaseSizeBy(size());
+    clone.isShared = isShared = length > 0;
+    return clone;
+  }
+
+  @Override
+  public int drainTo(Consumer<? super E> consumer, int max) {
+    int n = Math.max(0, Math.min(max, size()));
+    for (int i = 0; i < n; i++) {
+      consumer.accept((E) getAtIndex(i));
+    }
+    removeRange(0, n);
+    return n;
+  }
+
+  /* Copies the items out in at most two blocks, then drops them by moving the first index along. */
+  @Override
+  public int drainTo(E[] items, int max) {
+    int n = Math.max(0, Math.min(Math.min(max, items.length), size()));
+    copyOut(items, 0, n);
+    removeRange(0, n);
+    return n;
+  }
+
+  public void ensureCapacity(int capacity) {
+    if (capacity > length) {
+      resize(CapacityPolicy.lengthFor(capacity));
+    }
+  }
+
+  @Override
+  public void insertAll(List<E> items, int index) {
+    if (!isValidInclusiveIndex(index)) {
+      return;
+    }
+
+    Object[] source = items.toArray();
+    for (Object item : source) {
+      if (item == null) {
+        throw new NullPointerException("Cannot insert null into ArrayList.");
+      }
+    }
+
+    int count = source.length;
+    this.ensureWritable(size() + count);
+
+    /* Shifts whichever side of the index is shorter, once for the whole batch. */
+    if (index <= (size() >> 1)) {
+      move(0, -count, index);
+      firstIndex = offset(-count);
+    } else {
+      move(index, index + count, size() - index);
+    }
+    copyIn(source, 0, source.length, index);
+    increaseSizeBy(count);
+  }
+
   @Override
   public void insertAt(E item, int index) {
     if (item == null) {
@@ -98,9 +336,7 @@ public class ArrayList<E> extends AbstractList<E> {
     }
 
     if (isValidInclusiveIndex(index)) {
-      if (size() == length) {
-        this.expand();
-      }
+      this.ensureWritable(size() + 1);
 
       int midpoint = (size() >> 1);
       if (index <= midpoint) {
@@ -113,9 +349,15 @@ public class ArrayList<E> extends AbstractList<E> {
     }
   }
 
+  @Override
+  public int hashCode() {
+    return cachedHashCode();
+  }
+
   @Override
   public Iterator<E> iterator() {
     return new Iterator<E>() {
+      private final int expectedModCount = modCount;
       private int index = 0;
 
       @Override
@@ -125,11 +367,51 @@ public class ArrayList<E> extends AbstractList<E> {
 
       @Override
       public E next() {
+        checkModCount(expectedModCount);
+        if (!hasNext()) {
+          throw new NoSuchElementException();
+        }
         return findByIndex(index++);
       }
     };
   }
 
+  public void parallelSort(Comparator<? super E> comparator) {
+    this.parallelSort(comparator, ForkJoinPool.commonPool());
+  }
+
+  /* Sorts the items on the given pool, with exactly the same result as sort, once there are enough of them. */
+  public void parallelSort(Comparator<? super E> comparator, ForkJoinPool pool) {
+    if (size() <= ParallelMergeSort.THRESHOLD || pool.getParallelism() == 1) {
+      this.sort(comparator);
+    } else {
+      unshare();
+      normalize();
+      modCount++;
+      ParallelMergeSort.sort((E[]) contents, firstIndex, firstIndex + size(), Metrics.counting(comparator), pool);
+    }
+  }
+
+  @Override
+  public List<E> pollMany(int n) {
+    if (!isValidInclusiveIndex(n)) {
+      return null;
+    }
+
+    ArrayList<E> that = new ArrayList<>(n, policy);
+    copyOut(that.contents, 0, n);
+    that.increaseSizeBy(n);
+    removeRange(0, n);
+    return that;
+  }
+
+  /* Reads a checkpoint written by writeTo, leaving the channel just past it. */
+  public static <E> ArrayList<E> readFrom(FileChannel channel, Codec<E> codec) throws IOException {
+    ArrayList<E> list = new ArrayList<>(Checkpoint.readHeader(channel, channel.position(), codec));
+    Checkpoint.read(channel, codec, list::addLast);
+    return list;
+  }
+
   @Override
   public boolean remove(E item) {
     int index = findIndexByItem(item);
@@ -142,6 +424,7 @@ public class ArrayList<E> extends AbstractList<E> {
 
   @Override
   public void removeAll(E item) {
+    unshare();
     int size = size();
 
     for (int i = 0, j = 0; i < size; i++) {
@@ -156,11 +439,13 @@ public class ArrayList<E> extends AbstractList<E> {
     for (int i = size(); i < size; i++) {
       setAtIndex(null, i);
     }
+    shrink();
   }
 
   @Override
   public void removeAt(int index) {
     if (isValidIndex(index)) {
+      unshare();
       int midpoint = (size() >> 1);
       decrementSize();
       if (index <= midpoint) {
@@ -169,11 +454,32 @@ public class ArrayList<E> extends AbstractList<E> {
       } else {
         shiftDownAndReplace(index, size(), null);
       }
+      shrink();
+    }
+  }
+
+  @Override
+  public void removeRange(int from, int to) {
+    if (0 <= from && from <= to && to <= size()) {
+      unshare();
+      int count = to - from;
+      if (from < size() - to) {
+        move(0, count, from);
+        fill(null, 0, count);
+        firstIndex = offset(count);
+      } else {
+        move(to, from, size() - to);
+        fill(null, size() - count, count);
+      }
+      decreaseSizeBy(count);
+      shrink();
     }
   }
 
   @Override
   public void replaceAll(UnaryOperator<E> operator) {
+    unshare();
+    invalidateHashCode();
     for (int i = 0; i < size(); i++) {
       E item = findByIndex(i);
       setAtIndex(operator.apply(item), i);
@@ -186,8 +492,121 @@ public class ArrayList<E> extends AbstractList<E> {
       return null;
     }
 
+    unshare();
+    invalidateHashCode();
     E prev = findByIndex(index);
     setAtIndex(item, index);
     return prev;
   }
+
+  /* Sorts the items where they are, using the adaptive, stable merge sort behind Arrays.sort. */
+  @Override
+  public void sort(Comparator<? super E> comparator) {
+    unshare();
+    normalize();
+    modCount++;
+    Arrays.sort((E[]) contents, firstIndex, firstIndex + size(), Metrics.counting(comparator));
+  }
+
+  @Override
+  public Spliterator<E> spliterator() {
+    return new RingSpliterator(0, size(), modCount);
+  }
+
+  @Override
+  public Object[] toArray() {
+    Object[] array = new Object[size()];
+    copyOut(array, 0, size());
+    return array;
+  }
+
+  @Override
+  public <T> T[] toArray(T[] array) {
+    T[] target = array.length >= size() ? array : Arrays.copyOf(array, size());
+    copyOut(target, 0, size());
+    if (target.length > size()) {
+      target[size()] = null;
+    }
+    return target;
+  }
+
+  public void trimToSize() {
+    resize(isEmpty() ? 0 : CapacityPolicy.lengthFor(size()));
+  }
+
+  /* Encodes the two segments of the ring straight from the backing array, without copying them out first. */
+  public void writeTo(FileChannel channel, Codec<E> codec) throws IOException {
+    Checkpoint.Writer<E> writer = new Checkpoint.Writer<>(channel, codec, size());
+    int end = firstIndex + size();
+    writer.write(contents, firstIndex, Math.min(end, length));
+    writer.write(contents, 0, Math.max(0, end - length));
+    writer.finish();
+  }
+
+  /* Splits on index ranges of the ring, so that every part knows exactly how many items it holds. */
+  private class RingSpliterator implements Spliterator<E> {
+    private int index;
+    private final int end;
+    private final int expectedModCount;
+
+    private RingSpliterator(int index, int end, int expectedModCount) {
+      this.index = index;
+      this.end = end;
+      this.expectedModCount = expectedModCount;
+    }
+
+    @Override
+    public int characteristics() {
+      return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.NONNULL;
+    }
+
+    @Override
+    public long estimateSize() {
+      return end - index;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super E> action) {
+      /* Walks the at most two contiguous segments of the ring directly, rather than masking every index. */
+      checkModCount(expectedModCount);
+      Object[] contents = ArrayList.this.contents;
+      int start = offset(index);
+      int count = end - index;
+      int firstCount = Math.min(count, length - start);
+      index = end;
+
+      /* Checks before every item, so that an action that changes the list fails fast rather than reading past it. */
+      for (int i = start; i < start + firstCount; i++) {
+        checkModCount(expectedModCount);
+        action.accept((E) contents[i]);
+      }
+      for (int i = 0; i < count - firstCount; i++) {
+        checkModCount(expectedModCount);
+        action.accept((E) contents[i]);
+      }
+      checkModCount(expectedModCount);
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super E> action) {
+      checkModCount(expectedModCount);
+      if (index < end) {
+        action.accept(findByIndex(index++));
+        return true;
+      }
+      return false;
+    }
+
+    @Override
+    public Spliterator<E> trySplit() {
+      int mid = (index + end) >>> 1;
+      if (mid <= index) {
+        return null;
+      }
+
+      Spliterator<E> prefix = new RingSpliterator(index, mid, expectedModCount);
+      index = mid;
+      return prefix;
+    }
+  }
 }
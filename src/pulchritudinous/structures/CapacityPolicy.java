@@ -0,0 +1,67 @@
+package pulchritudinous.structures;
+
+/*
+ * Decides how far an ArrayList's backing array grows when it is full and how far it shrinks once
+ * items have been removed. Lengths are always powers of two, so that positions in the ring can be
+ * found by masking.
+ */
+public final class CapacityPolicy {
+
+  public static final CapacityPolicy DEFAULT = new CapacityPolicy(16, 1, 2);
+
+  public static final CapacityPolicy NEVER_SHRINK = new CapacityPolicy(16, 1, 0);
+
+  static final int MAX_LENGTH = 1 << 30;
+
+  private final int initialLength;
+  private final int growthShift;
+  private final int shrinkShift;
+
+  /*
+   * The backing array starts at initialLength (rounded up to a power of two) on the first insert,
+   * and is multiplied by 2^growthShift whenever it is full. It is halved, down to initialLength, as
+   * long as at most 1/2^shrinkShift of it is in use; a shrinkShift of 0 never shrinks the array, and
+   * a shrinkShift of 1 is rejected because every insert after a shrink would grow it again.
+   */
+  public CapacityPolicy(int initialLength, int growthShift, int shrinkShift) {
+    if (initialLength < 1 || initialLength > MAX_LENGTH) {
+      throw new IllegalArgumentException("Initial length must be between 1 and " + MAX_LENGTH + ".");
+    } else if (growthShift < 1 || growthShift > 30) {
+      throw new IllegalArgumentException("Growth shift must be between 1 and 30.");
+    } else if (shrinkShift < 0 || shrinkShift == 1 || shrinkShift > 30) {
+      throw new IllegalArgumentException("Shrink shift must be 0 or between 2 and 30.");
+    }
+
+    this.initialLength = lengthFor(initialLength);
+    this.growthShift = growthShift;
+    this.shrinkShift = shrinkShift;
+  }
+
+  /* Returns the smallest power of two that can hold the given number of items. */
+  static int lengthFor(int capacity) {
+    if (capacity > MAX_LENGTH) {
+      throw new OutOfMemoryError("Cannot hold " + capacity + " items in a single array.");
+    }
+    return capacity <= 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+  }
+
+  int grow(int length, int capacity) {
+    if (length == 0) {
+      return Math.max(initialLength, lengthFor(capacity));
+    }
+
+    int grown = length > (MAX_LENGTH >> growthShift) ? MAX_LENGTH : length << growthShift;
+    return Math.max(grown, lengthFor(capacity));
+  }
+
+  int shrink(int length, int size) {
+    if (shrinkShift == 0) {
+      return length;
+    }
+
+    while (length > initialLength && size <= (length >> shrinkShift)) {
+      length >>= 1;
+    }
+    return length;
+  }
+}
@@ -0,0 +1,168 @@
+package pulchritudinous.structures;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.function.Consumer;
+
+/*
+ * The file format shared by writeTo, readFrom and CheckpointList. A header holding a magic number,
+ * the codec width and the item count is followed by chunks of fixed-width records, each prefixed by
+ * the number of records in it. Every chunk but the last is full, so the position of any record can
+ * be worked out from its index alone.
+ */
+final class Checkpoint {
+
+  static final int MAGIC = 0x50534c31;
+  static final int HEADER_BYTES = 2 * Integer.BYTES + Long.BYTES;
+
+  private static final int MAX_CHUNK_BYTES = 1 << 16;
+
+  private Checkpoint() {
+  }
+
+  static int chunkItems(int width) {
+    return Math.max(1, MAX_CHUNK_BYTES / width);
+  }
+
+  static long chunkBytes(int width) {
+    return Integer.BYTES + (long) chunkItems(width) * width;
+  }
+
+  /* Returns the number of bytes taken up by a checkpoint of count items, including its header. */
+  static long sizeOf(int count, int width) {
+    int chunkItems = chunkItems(width);
+    int remainder = count % chunkItems;
+    long bytes = HEADER_BYTES + (long) (count / chunkItems) * chunkBytes(width);
+    return remainder > 0 ? bytes + Integer.BYTES + (long) remainder * width : bytes;
+  }
+
+  /* Reads the header at the given position, checking that it was written with a codec of the same width. */
+  static int readHeader(FileChannel channel, long position, Codec<?> codec) throws IOException {
+    ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+    while (header.hasRemaining()) {
+      if (channel.read(header, position + header.position()) < 0) {
+        throw new EOFException("Checkpoint ends before its header.");
+      }
+    }
+
+    if (header.getInt(0) != MAGIC) {
+      throw new IOException("Not a list checkpoint.");
+    } else if (header.getInt(Integer.BYTES) != codec.width()) {
+      throw new IOException("Checkpoint was written with a codec of width " + header.getInt(Integer.BYTES) + ".");
+    }
+
+    long count = header.getLong(2 * Integer.BYTES);
+    if (count < 0 || count > Integer.MAX_VALUE) {
+      throw new IOException("Checkpoint holds an invalid number of items.");
+    }
+    return (int) count;
+  }
+
+  /* Decodes the checkpoint at the channel's position, leaving the channel just past its last chunk. */
+  static <E> int read(FileChannel channel, Codec<E> codec, Consumer<? super E> consumer) throws IOException {
+    int count = readHeader(channel, channel.position(), codec);
+    channel.position(channel.position() + HEADER_BYTES);
+
+    int width = codec.width();
+    ByteBuffer prefix = ByteBuffer.allocate(Integer.BYTES);
+    ByteBuffer records = ByteBuffer.allocateDirect(chunkItems(width) * width);
+    try {
+      for (int read = 0; read < count; ) {
+        readFully(channel, window(prefix, Integer.BYTES));
+        int items = prefix.getInt(0);
+        if (items <= 0 || items > Math.min(chunkItems(width), count - read)) {
+          throw new IOException("Checkpoint holds a chunk of invalid length.");
+        }
+
+        readFully(channel, window(records, items * width));
+        for (int i = 0; i < items; i++) {
+          consumer.accept(codec.decode(records, i * width));
+        }
+        read += items;
+      }
+    } finally {
+      DirectBuffers.free(records);
+    }
+    return count;
+  }
+
+  private static void readFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+    while (buffer.hasRemaining()) {
+      if (channel.read(buffer) < 0) {
+        throw new EOFException("Checkpoint ends part way through a chunk.");
+      }
+    }
+  }
+
+  /* Goes through Buffer, whose methods exist on every runtime from Java 8 onwards, unlike ByteBuffer's overrides. */
+  private static ByteBuffer window(ByteBuffer buffer, int length) {
+    ((Buffer) buffer).clear();
+    ((Buffer) buffer).limit(length);
+    return buffer;
+  }
+
+  private static void writeFully(FileChannel channel, ByteBuffer[] buffers) throws IOException {
+    while (buffers[buffers.length - 1].hasRemaining()) {
+      channel.write(buffers);
+    }
+  }
+
+  /* Encodes items a chunk at a time, writing each chunk's prefix and records in a single gathering write. */
+  static final class Writer<E> {
+
+    private final FileChannel channel;
+    private final Codec<E> codec;
+    private final int width;
+    private final int chunkItems;
+    private final ByteBuffer prefix;
+    private final ByteBuffer records;
+    private int items;
+
+    Writer(FileChannel channel, Codec<E> codec, int count) throws IOException {
+      this.channel = channel;
+      this.codec = codec;
+      this.width = codec.width();
+      this.chunkItems = chunkItems(width);
+      this.prefix = ByteBuffer.allocate(Integer.BYTES);
+      this.records = ByteBuffer.allocateDirect(Math.min(count, chunkItems) * width);
+      this.items = 0;
+
+      ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+      header.putInt(0, MAGIC).putInt(Integer.BYTES, width).putLong(2 * Integer.BYTES, count);
+      writeFully(channel, new ByteBuffer[]{header});
+    }
+
+    void write(E item) throws IOException {
+      codec.encode(item, records, items * width);
+      if (++items == chunkItems) {
+        flush();
+      }
+    }
+
+    void write(Object[] items, int from, int to) throws IOException {
+      for (int i = from; i < to; i++) {
+        write((E) items[i]);
+      }
+    }
+
+    /* Writes out the last, partly filled chunk and releases the buffer; the writer cannot be used again. */
+    void finish() throws IOException {
+      try {
+        flush();
+      } finally {
+        DirectBuffers.free(records);
+      }
+    }
+
+    private void flush() throws IOException {
+      if (items > 0) {
+        prefix.putInt(0, items);
+        writeFully(channel, new ByteBuffer[]{window(prefix, Integer.BYTES), window(records, items * width)});
+        items = 0;
+      }
+    }
+  }
+}
@@ -0,0 +1,225 @@
+package pulchritudinous.structures;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.UnaryOperator;
+
+/*
+ * A checkpoint written by writeTo, mapped into memory rather than read in. Opening one only reads
+ * its header, and items are decoded straight from the mapped file as they are looked up, so that
+ * the operating system pages in just the parts of the file that are used. The file is split into
+ * mappings of whole chunks of at most a gigabyte each. The first change to the list decodes every
+ * item into an ArrayList, which then holds the items from there on; the file itself is never written.
+ */
+public class CheckpointList<E> extends AbstractList<E> {
+
+  private static final int MAX_SEGMENT_BYTES = 1 << 30;
+
+  private final Codec<E> codec;
+  private final int width;
+  private final int chunkItems;
+  private final int chunkBytes;
+  private final int segmentChunks;
+
+  private ByteBuffer[] segments;
+  private ArrayList<E> loaded;
+
+  private CheckpointList(Codec<E> codec, ByteBuffer[] segments, int size) {
+    super();
+    this.codec = codec;
+    this.width = codec.width();
+    this.chunkItems = Checkpoint.chunkItems(width);
+    this.chunkBytes = (int) Checkpoint.chunkBytes(width);
+    this.segmentChunks = Math.max(1, MAX_SEGMENT_BYTES / chunkBytes);
+    this.segments = segments;
+    this.loaded = null;
+    this.increaseSizeBy(size);
+  }
+
+  /* Maps the checkpoint at the channel's position; the mapping outlives the channel, which may then be closed. */
+  public static <E> CheckpointList<E> map(FileChannel channel, Codec<E> codec) throws IOException {
+    long start = channel.position();
+    int count = Checkpoint.readHeader(channel, start, codec);
+    long end = start + Checkpoint.sizeOf(count, codec.width());
+    if (end > channel.size()) {
+      throw new IOException("Checkpoint is longer than its file.");
+    }
+
+    long segmentBytes = Math.max(1, MAX_SEGMENT_BYTES / Checkpoint.chunkBytes(codec.width())) * Checkpoint.chunkBytes(codec.width());
+    long bodyBytes = end - start - Checkpoint.HEADER_BYTES;
+    ByteBuffer[] segments = new ByteBuffer[(int) ((bodyBytes + segmentBytes - 1) / segmentBytes)];
+    for (int i = 0; i < segments.length; i++) {
+      long position = start + Checkpoint.HEADER_BYTES + i * segmentBytes;
+      segments[i] = channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(segmentBytes, end - position));
+    }
+    return new CheckpointList<>(codec, segments, count);
+  }
+
+  private E decode(int index) {
+    int chunk = index / chunkItems;
+    int position = (chunk % segmentChunks) * chunkBytes + Integer.BYTES + (index % chunkItems) * width;
+    return codec.decode(segments[chunk / segmentChunks], position);
+  }
+
+  @Override
+  protected E findByIndex(int index) {
+    assert (isValidIndex(index));
+    return loaded != null ? loaded.get(index) : decode(index);
+  }
+
+  @Override
+  protected E findByItem(E item) {
+    int index = indexOf(item);
+    return index != NULL_INDEX ? findByIndex(index) : null;
+  }
+
+  /* Decodes every item onto the heap and lets go of the mapping, ahead of the first change. */
+  private ArrayList<E> load() {
+    if (loaded == null) {
+      loaded = new ArrayList<>(size());
+      for (int i = 0; i < size(); i++) {
+        loaded.addLast(decode(i));
+      }
+      segments = null;
+    }
+    return loaded;
+  }
+
+  /* Reads decode straight from the mapping, which the first change unmaps under any unlocked reader. */
+  @Override
+  protected boolean isSafeToReadOptimistically() {
+    return false;
+  }
+
+  @Override
+  protected ArrayList<E> newEmptyList() {
+    return new ArrayList<>();
+  }
+
+  @Override
+  protected void resetToEmptyState() {
+    super.resetToEmptyState();
+    segments = null;
+    loaded = new ArrayList<>();
+  }
+
+  private void updateSize() {
+    increaseSizeBy(loaded.size() - size());
+  }
+
+  public boolean isLoaded() {
+    return loaded != null;
+  }
+
+  /* Shares the read-only mapping with the clone if neither has been changed yet. */
+  @Override
+  public List<E> clone() {
+    return loaded != null ? loaded.clone() : new CheckpointList<>(codec, segments, size());
+  }
+
+  @Override
+  public void insertAll(List<E> items, int index) {
+    if (isValidInclusiveIndex(index)) {
+      load().insertAll(items, index);
+      updateSize();
+    }
+  }
+
+  @Override
+  public void insertAt(E item, int index) {
+    if (item == null) {
+      throw new NullPointerException("Cannot insert null into CheckpointList.");
+    }
+
+    if (isValidInclusiveIndex(index)) {
+      load().insertAt(item, index);
+      incrementSize();
+    }
+  }
+
+  @Override
+  public Iterator<E> iterator() {
+    return new Iterator<E>() {
+      private int index = 0;
+
+      @Override
+      public boolean hasNext() {
+        return isValidIndex(index);
+      }
+
+      @Override
+      public E next() {
+        if (!hasNext()) {
+          throw new NoSuchElementException();
+        }
+        return findByIndex(index++);
+      }
+    };
+  }
+
+  @Override
+  public boolean remove(E item) {
+    int index = indexOf(item);
+    if (index == NULL_INDEX) {
+      return false;
+    }
+    removeAt(index);
+    return true;
+  }
+
+  @Override
+  public void removeAll(E item) {
+    if (contains(item)) {
+      load().removeAll(item);
+      updateSize();
+    }
+  }
+
+  @Override
+  public void removeAt(int index) {
+    if (isValidIndex(index)) {
+      load().removeAt(index);
+      decrementSize();
+    }
+  }
+
+  @Override
+  public void removeRange(int from, int to) {
+    if (0 <= from && from < to && to <= size()) {
+      load().removeRange(from, to);
+      updateSize();
+    }
+  }
+
+  @Override
+  public void replaceAll(UnaryOperator<E> operator) {
+    load().replaceAll(operator);
+  }
+
+  @Override
+  public E set(E item, int index) {
+    return isValidIndex(index) ? load().set(item, index) : null;
+  }
+
+  @Override
+  public void sort(Comparator<? super E> comparator) {
+    load().sort(comparator);
+  }
+
+  @Override
+  public Object[] toArray() {
+    if (loaded != null) {
+      return loaded.toArray();
+    }
+
+    Object[] array = new Object[size()];
+    for (int i = 0; i < array.length; i++) {
+      array[i] = decode(i);
+    }
+    return array;
+  }
+}
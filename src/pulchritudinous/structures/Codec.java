@@ -0,0 +1,64 @@
+package pulchritudinous.structures;
+
+import java.nio.ByteBuffer;
+
+/* Converts items to and from a fixed number of bytes, so that they can be stored outside of the heap. */
+public interface Codec<E> {
+
+  Codec<Integer> INTEGER = new Codec<Integer>() {
+    @Override
+    public int width() {
+      return Integer.BYTES;
+    }
+
+    @Override
+    public void encode(Integer item, ByteBuffer buffer, int offset) {
+      buffer.putInt(offset, item);
+    }
+
+    @Override
+    public Integer decode(ByteBuffer buffer, int offset) {
+      return buffer.getInt(offset);
+    }
+  };
+
+  Codec<Long> LONG = new Codec<Long>() {
+    @Override
+    public int width() {
+      return Long.BYTES;
+    }
+
+    @Override
+    public void encode(Long item, ByteBuffer buffer, int offset) {
+      buffer.putLong(offset, item);
+    }
+
+    @Override
+    public Long decode(ByteBuffer buffer, int offset) {
+      return buffer.getLong(offset);
+    }
+  };
+
+  Codec<Double> DOUBLE = new Codec<Double>() {
+    @Override
+    public int width() {
+      return Double.BYTES;
+    }
+
+    @Override
+    public void encode(Double item, ByteBuffer buffer, int offset) {
+      buffer.putDouble(offset, item);
+    }
+
+    @Override
+    public Double decode(ByteBuffer buffer, int offset) {
+      return buffer.getDouble(offset);
+    }
+  };
+
+  int width();
+
+  void encode(E item, ByteBuffer buffer, int offset);
+
+  E decode(ByteBuffer buffer, int offset);
+}
@@ -0,0 +1,364 @@
+package pulchritudinous.structures;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Consumer;
+import java.util.function.IntSupplier;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/*
+ * Makes any list safe to share between threads. Mutators take a write lock, while reads first run
+ * optimistically without locking, where the list allows it, and only take a read lock if a write got
+ * in the way, so that readers of a read-mostly list never block each other. Iteration walks a
+ * snapshot of the items.
+ */
+public class ConcurrentList<E> implements List<E> {
+
+  private final AbstractList<E> list;
+  private final StampedLock lock;
+  private final boolean isOptimistic;
+
+  public ConcurrentList(AbstractList<E> list) {
+    this.list = list;
+    this.lock = new StampedLock();
+    this.isOptimistic = list.isSafeToReadOptimistically();
+  }
+
+  /*
+   * Runs the reader without locking and keeps its result if no write happened in the meantime.
+   * A reader that overlaps a write can see the list half-way through a change and trip over it,
+   * so its exceptions only count once the read has been validated. Lists that are not safe to read
+   * that way are always read under the read lock.
+   */
+  private <T> T read(Supplier<T> reader) {
+    long stamp = isOptimistic ? lock.tryOptimisticRead() : 0;
+    if (stamp != 0) {
+      try {
+        T result = reader.get();
+        if (lock.validate(stamp)) {
+          return result;
+        }
+      } catch (RuntimeException e) {
+        if (lock.validate(stamp)) {
+          throw e;
+        }
+      }
+    }
+
+    stamp = lock.readLock();
+    try {
+      return reader.get();
+    } finally {
+      lock.unlockRead(stamp);
+    }
+  }
+
+  private int readInt(IntSupplier reader) {
+    long stamp = isOptimistic ? lock.tryOptimisticRead() : 0;
+    if (stamp != 0) {
+      try {
+        int result = reader.getAsInt();
+        if (lock.validate(stamp)) {
+          return result;
+        }
+      } catch (RuntimeException e) {
+        if (lock.validate(stamp)) {
+          throw e;
+        }
+      }
+    }
+
+    stamp = lock.readLock();
+    try {
+      return reader.getAsInt();
+    } finally {
+      lock.unlockRead(stamp);
+    }
+  }
+
+  private <T> T write(Supplier<T> writer) {
+    long stamp = lock.writeLock();
+    try {
+      return writer.get();
+    } finally {
+      lock.unlockWrite(stamp);
+    }
+  }
+
+  private void write(Runnable writer) {
+    long stamp = lock.writeLock();
+    try {
+      writer.run();
+    } finally {
+      lock.unlockWrite(stamp);
+    }
+  }
+
+  /*
+   * Copies another concurrent list before taking the write lock, since reading it while holding the
+   * lock would deadlock if it were this list, or another list adding from this one.
+   */
+  private List<E> detach(List<E> items) {
+    return items instanceof ConcurrentList ? ((ConcurrentList<E>) items).clone() : items;
+  }
+
+  /* Scans at most size() items, since a torn read of a linked structure is not guaranteed to end. */
+  private int findIndex(E item) {
+    int size = list.size();
+    Iterator<E> iterator = list.iterator();
+    for (int i = 0; i < size && iterator.hasNext(); i++) {
+      if (iterator.next().equals(item)) {
+        return i;
+      }
+    }
+    return AbstractList.NULL_INDEX;
+  }
+
+  private Object[] snapshot() {
+    return read(list::toArray);
+  }
+
+  @Override
+  public void add(E item) {
+    write(() -> list.add(item));
+  }
+
+  @Override
+  public void addAll(List<E> items) {
+    List<E> source = detach(items);
+    write(() -> list.addAll(source));
+  }
+
+  @Override
+  public void addAll(E[] items, int from, int to) {
+    write(() -> list.addAll(items, from, to));
+  }
+
+  @Override
+  public void addFirst(E item) {
+    write(() -> list.addFirst(item));
+  }
+
+  /* Adds the item unless the list already contains it, as a single atomic step. */
+  public boolean addIfAbsent(E item) {
+    return write(() -> {
+      if (list.contains(item)) {
+        return false;
+      }
+      list.add(item);
+      return true;
+    });
+  }
+
+  @Override
+  public void addLast(E item) {
+    write(() -> list.addLast(item));
+  }
+
+  @Override
+  public JavaDequeView<E> asJavaDeque() {
+    return new JavaDequeView<>(this);
+  }
+
+  @Override
+  public JavaListView<E> asJavaList() {
+    return new JavaListView<>(this);
+  }
+
+  @Override
+  public void clear() {
+    write(list::clear);
+  }
+
+  @Override
+  public ConcurrentList<E> clone() {
+    long stamp = lock.readLock();
+    try {
+      return new ConcurrentList<>((AbstractList<E>) list.clone());
+    } finally {
+      lock.unlockRead(stamp);
+    }
+  }
+
+  @Override
+  public boolean contains(E item) {
+    return indexOf(item) != AbstractList.NULL_INDEX;
+  }
+
+  /*
+   * Drains as a single atomic step, but hands the items over only once the lock is released, since
+   * a consumer may well go back to this list.
+   */
+  @Override
+  public int drainTo(Consumer<? super E> consumer, int max) {
+    Object[] drained = write(() -> {
+      Object[] items = new Object[Math.max(0, Math.min(max, list.size()))];
+      list.drainTo((E[]) items, items.length);
+      return items;
+    });
+    for (Object item : drained) {
+      consumer.accept((E) item);
+    }
+    return drained.length;
+  }
+
+  @Override
+  public int drainTo(E[] items, int max) {
+    return write(() -> list.drainTo(items, max));
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    } else if (obj instanceof List) {
+      return Arrays.equals(snapshot(), ((List) obj).toArray());
+    } else {
+      return false;
+    }
+  }
+
+  @Override
+  public E first() {
+    return read(list::first);
+  }
+
+  @Override
+  public E get(int index) {
+    return read(() -> list.get(index));
+  }
+
+  @Override
+  public int hashCode() {
+    return Arrays.hashCode(snapshot());
+  }
+
+  @Override
+  public int indexOf(E item) {
+    return readInt(() -> findIndex(item));
+  }
+
+  @Override
+  public void insertAll(List<E> items, int index) {
+    List<E> source = detach(items);
+    write(() -> list.insertAll(source, index));
+  }
+
+  @Override
+  public void insertAt(E item, int index) {
+    write(() -> list.insertAt(item, index));
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return readInt(list::size) == 0;
+  }
+
+  /* Iterates over a snapshot of the items, which later writes to the list do not affect. */
+  @Override
+  public Iterator<E> iterator() {
+    return Spliterators.iterator(spliterator());
+  }
+
+  @Override
+  public E last() {
+    return read(list::last);
+  }
+
+  @Override
+  public Stream<E> parallelStream() {
+    return StreamSupport.stream(spliterator(), true);
+  }
+
+  @Override
+  public E poll() {
+    return write(list::poll);
+  }
+
+  /* Polls the first n items as a single atomic step, so that no other thread can poll in between. */
+  @Override
+  public List<E> pollMany(int n) {
+    return write(() -> list.pollMany(n));
+  }
+
+  @Override
+  public boolean remove(E item) {
+    return write(() -> list.remove(item));
+  }
+
+  @Override
+  public void removeAll(E item) {
+    write(() -> list.removeAll(item));
+  }
+
+  @Override
+  public void removeAt(int index) {
+    write(() -> list.removeAt(index));
+  }
+
+  @Override
+  public void removeRange(int from, int to) {
+    write(() -> list.removeRange(from, to));
+  }
+
+  @Override
+  public void replaceAll(UnaryOperator<E> operator) {
+    write(() -> list.replaceAll(operator));
+  }
+
+  @Override
+  public E set(E item, int index) {
+    return write(() -> list.set(item, index));
+  }
+
+  @Override
+  public int size() {
+    return readInt(list::size);
+  }
+
+  @Override
+  public void sort(Comparator<? super E> comparator) {
+    write(() -> list.sort(comparator));
+  }
+
+  @Override
+  public Spliterator<E> spliterator() {
+    Object[] snapshot = snapshot();
+    return (Spliterator<E>) Spliterators.spliterator(snapshot, Spliterator.ORDERED | Spliterator.NONNULL | Spliterator.IMMUTABLE);
+  }
+
+  @Override
+  public Stream<E> stream() {
+    return StreamSupport.stream(spliterator(), false);
+  }
+
+  /* Returns a view whose every read and write goes through this list's locks, though not as one atomic step. */
+  @Override
+  public List<E> subList(int from, int to) {
+    int size = size();
+    return 0 <= from && from <= to && to <= size ? new SubList<>(this, () -> readInt(() -> list.modCount), from, to) : null;
+  }
+
+  @Override
+  public Object[] toArray() {
+    return snapshot();
+  }
+
+  @Override
+  public <T> T[] toArray(T[] array) {
+    Object[] snapshot = snapshot();
+    T[] target = array.length >= snapshot.length ? array : Arrays.copyOf(array, snapshot.length);
+    System.arraycopy(snapshot, 0, target, 0, snapshot.length);
+    if (target.length > snapshot.length) {
+      target[snapshot.length] = null;
+    }
+    return target;
+  }
+}
@@ -0,0 +1,17 @@
+package pulchritudinous.structures;
+
+/* A bounded first-in-first-out queue that can be shared between threads without locking. */
+interface ConcurrentQueue<E> {
+
+  int capacity();
+
+  boolean isEmpty();
+
+  boolean offer(E item);
+
+  E poll();
+
+  int pollMany(E[] items, int max);
+
+  int size();
+}
@@ -0,0 +1,49 @@
+package pulchritudinous.structures;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+
+final class DirectBuffers {
+
+  private static final MethodHandle INVOKE_CLEANER = findInvokeCleaner();
+
+  private DirectBuffers() {
+  }
+
+  private static MethodHandle findInvokeCleaner() {
+    /* Unsafe.invokeCleaner only exists from Java 9 onwards; earlier runtimes leave buffers to the collector. */
+    try {
+      Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+      Field field = unsafeClass.getDeclaredField("theUnsafe");
+      field.setAccessible(true);
+      MethodType type = MethodType.methodType(void.class, ByteBuffer.class);
+      return MethodHandles.lookup().findVirtual(unsafeClass, "invokeCleaner", type).bindTo(field.get(null));
+    } catch (ReflectiveOperationException | RuntimeException e) {
+      return null;
+    }
+  }
+
+  static void copy(ByteBuffer source, int sourceOffset, ByteBuffer target, int targetOffset, int length) {
+    int i = 0;
+    for (; i + Long.BYTES <= length; i += Long.BYTES) {
+      target.putLong(targetOffset + i, source.getLong(sourceOffset + i));
+    }
+    for (; i < length; i++) {
+      target.put(targetOffset + i, source.get(sourceOffset + i));
+    }
+  }
+
+  /* Releases the native memory behind a buffer straight away; the buffer must never be touched again. */
+  static void free(ByteBuffer buffer) {
+    if (INVOKE_CLEANER != null && buffer.isDirect()) {
+      try {
+        INVOKE_CLEANER.invokeExact(buffer);
+      } catch (Throwable t) {
+        /* Falls back to releasing the memory once the buffer is collected. */
+      }
+    }
+  }
+}
@@ -0,0 +1,337 @@
+package pulchritudinous.structures;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.UnaryOperator;
+
+public class DoubleArrayList extends AbstractList<Double> {
+
+  private static final int INITIAL_LENGTH = 128;
+
+  private int firstIndex;
+  private int length;
+  private double[] contents;
+
+  public DoubleArrayList() {
+    super();
+    this.resetToEmptyState();
+  }
+
+  /* Compares items the same way as Double.equals, so that boxed and unboxed look-ups agree. */
+  private static boolean areEqual(double a, double b) {
+    return Double.doubleToLongBits(a) == Double.doubleToLongBits(b);
+  }
+
+  @Override
+  protected Double findByIndex(int index) {
+    assert (isValidIndex(index));
+    return getAtIndex(index);
+  }
+
+  @Override
+  protected Double findByItem(Double item) {
+    return item != null && findIndexByItem(item) != NULL_INDEX ? item : null;
+  }
+
+  private int findIndexByItem(double item) {
+    for (int i = 0; i < size(); i++) {
+      if (areEqual(getAtIndex(i), item)) {
+        return i;
+      }
+    }
+    return NULL_INDEX;
+  }
+
+  private void copyOut(double[] target, int index, int count) {
+    int start = offset(index);
+    int firstCount = Math.min(count, length - start);
+    System.arraycopy(contents, start, target, 0, firstCount);
+    System.arraycopy(contents, 0, target, firstCount, count - firstCount);
+  }
+
+  private void expand() {
+    int length = this.length << 1;
+    double[] contents = new double[length];
+    copyOut(contents, 0, size());
+
+    this.firstIndex = 0;
+    this.length = length;
+    this.contents = contents;
+  }
+
+  private double getAtIndex(int index) {
+    return contents[offset(index)];
+  }
+
+  private void move(int from, int to, int count) {
+    /* Moves items one contiguous segment at a time, copying away from the direction of travel. */
+    if (to < from) {
+      while (count > 0) {
+        int source = offset(from);
+        int target = offset(to);
+        int segment = Math.min(count, Math.min(length - source, length - target));
+        System.arraycopy(contents, source, contents, target, segment);
+        from += segment;
+        to += segment;
+        count -= segment;
+      }
+    } else if (to > from) {
+      while (count > 0) {
+        int sourceEnd = offset(from + count - 1) + 1;
+        int targetEnd = offset(to + count - 1) + 1;
+        int segment = Math.min(count, Math.min(sourceEnd, targetEnd));
+        System.arraycopy(contents, sourceEnd - segment, contents, targetEnd - segment, segment);
+        count -= segment;
+      }
+    }
+  }
+
+  @Override
+  protected DoubleArrayList newEmptyList() {
+    return new DoubleArrayList();
+  }
+
+  private void normalize() {
+    /* Rotates the ring so that the first item sits at the start of contents. */
+    if (firstIndex + size() > length) {
+      reverse(0, length);
+      reverse(0, length - firstIndex);
+      reverse(length - firstIndex, length);
+      firstIndex = 0;
+    }
+  }
+
+  private int offset(int index) {
+    return (firstIndex + index) & (length - 1);
+  }
+
+  @Override
+  protected void resetToEmptyState() {
+    super.resetToEmptyState();
+    firstIndex = 0;
+    length = INITIAL_LENGTH;
+    contents = new double[length];
+  }
+
+  private void reverse(int start, int end) {
+    for (int i = start, j = end - 1; i < j; i++, j--) {
+      double item = contents[i];
+      contents[i] = contents[j];
+      contents[j] = item;
+    }
+  }
+
+  private void shiftDownAndReplace(int start, int end, double item) {
+    move(start + 1, start, end - start);
+    setAtIndex(item, end);
+  }
+
+  private void shiftUpAndReplace(int start, int end, double item) {
+    move(start, start + 1, end - start);
+    setAtIndex(item, start);
+  }
+
+  private void setAtIndex(double item, int index) {
+    contents[offset(index)] = item;
+  }
+
+  public void addDouble(double item) {
+    this.addLastDouble(item);
+  }
+
+  public void addFirstDouble(double item) {
+    this.insertDoubleAt(item, 0);
+  }
+
+  public void addLastDouble(double item) {
+    this.insertDoubleAt(item, size());
+  }
+
+  @Override
+  public DoubleArrayList clone() {
+    DoubleArrayList clone = newEmptyList();
+    clone.length = length;
+    clone.contents = new double[length];
+    copyOut(clone.contents, 0, size());
+    clone.increaseSizeBy(size());
+    return clone;
+  }
+
+  public boolean contains(double item) {
+    return findIndexByItem(item) != NULL_INDEX;
+  }
+
+  public double firstDouble() {
+    return this.getDouble(0);
+  }
+
+  public double getDouble(int index) {
+    if (!isValidIndex(index)) {
+      throw new IndexOutOfBoundsException("Index " + index + " is out of bounds for DoubleArrayList.");
+    }
+    return getAtIndex(index);
+  }
+
+  @Override
+  public int indexOf(Double item) {
+    return item != null ? indexOf((double) item) : NULL_INDEX;
+  }
+
+  public int indexOf(double item) {
+    return findIndexByItem(item);
+  }
+
+  @Override
+  public void insertAt(Double item, int index) {
+    if (item == null) {
+      throw new NullPointerException("Cannot insert null into DoubleArrayList.");
+    }
+    this.insertDoubleAt(item, index);
+  }
+
+  public void insertDoubleAt(double item, int index) {
+    if (isValidInclusiveIndex(index)) {
+      if (size() == length) {
+        this.expand();
+      }
+
+      int midpoint = (size() >> 1);
+      if (index <= midpoint) {
+        shiftDownAndReplace(-1, index - 1, item);
+        firstIndex = offset(-1);
+      } else {
+        shiftUpAndReplace(index, size(), item);
+      }
+      incrementSize();
+    }
+  }
+
+  @Override
+  public PrimitiveIterator.OfDouble iterator() {
+    return new PrimitiveIterator.OfDouble() {
+      private int index = 0;
+
+      @Override
+      public boolean hasNext() {
+        return isValidIndex(index);
+      }
+
+      @Override
+      public double nextDouble() {
+        if (!hasNext()) {
+          throw new NoSuchElementException();
+        }
+        return getAtIndex(index++);
+      }
+    };
+  }
+
+  public double lastDouble() {
+    return this.getDouble(size() - 1);
+  }
+
+  public double pollDouble() {
+    if (isEmpty()) {
+      throw new NoSuchElementException("Cannot poll an empty DoubleArrayList.");
+    }
+    double first = getAtIndex(0);
+    removeAt(0);
+    return first;
+  }
+
+  @Override
+  public boolean remove(Double item) {
+    return item != null && removeDouble(item);
+  }
+
+  @Override
+  public void removeAll(Double item) {
+    if (item != null) {
+      removeAllDouble(item);
+    }
+  }
+
+  public void removeAllDouble(double item) {
+    int size = size();
+
+    for (int i = 0, j = 0; i < size; i++) {
+      double curr = getAtIndex(i);
+      if (!areEqual(curr, item)) {
+        setAtIndex(curr, j++);
+      } else {
+        decrementSize();
+      }
+    }
+  }
+
+  @Override
+  public void removeAt(int index) {
+    if (isValidIndex(index)) {
+      int midpoint = (size() >> 1);
+      decrementSize();
+      if (index <= midpoint) {
+        shiftUpAndReplace(0, index, 0);
+        firstIndex = offset(1);
+      } else {
+        shiftDownAndReplace(index, size(), 0);
+      }
+    }
+  }
+
+  public boolean removeDouble(double item) {
+    int index = findIndexByItem(item);
+    if (!isValidIndex(index)) {
+      return false;
+    }
+    removeAt(index);
+    return true;
+  }
+
+  @Override
+  public void replaceAll(UnaryOperator<Double> operator) {
+    for (int i = 0; i < size(); i++) {
+      Double item = operator.apply(getAtIndex(i));
+      if (item == null) {
+        throw new NullPointerException("Cannot insert null into DoubleArrayList.");
+      }
+      setAtIndex(item, i);
+    }
+  }
+
+  public void replaceAllDouble(DoubleUnaryOperator operator) {
+    for (int i = 0; i < size(); i++) {
+      setAtIndex(operator.applyAsDouble(getAtIndex(i)), i);
+    }
+  }
+
+  @Override
+  public Double set(Double item, int index) {
+    if (!isValidIndex(index)) {
+      return null;
+    }
+    if (item == null) {
+      throw new NullPointerException("Cannot insert null into DoubleArrayList.");
+    }
+    return setDouble(item, index);
+  }
+
+  public double setDouble(double item, int index) {
+    double prev = getDouble(index);
+    setAtIndex(item, index);
+    return prev;
+  }
+
+  /* Sorts the items into ascending order without boxing. */
+  public void sort() {
+    normalize();
+    Arrays.sort(contents, firstIndex, firstIndex + size());
+  }
+
+  public double[] toDoubleArray() {
+    double[] array = new double[size()];
+    copyOut(array, 0, size());
+    return array;
+  }
+}
@@ -0,0 +1,264 @@
+package pulchritudinous.structures;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.UnaryOperator;
+
+/*
+ * An array with a gap of free slots that follows wherever items were last inserted or removed.
+ * Moving the gap shifts only the items between its old and new position, so edits clustered around
+ * a moving cursor cost O(1) each, while reads find any index in O(1) by stepping over the gap.
+ */
+public class GapBufferList<E> extends AbstractList<E> {
+
+  private static final Object[] EMPTY_CONTENTS = {};
+
+  private final CapacityPolicy policy;
+
+  private int gapStart;
+  private int gapEnd;
+  private Object[] contents;
+
+  public GapBufferList() {
+    this(CapacityPolicy.DEFAULT);
+  }
+
+  public GapBufferList(CapacityPolicy policy) {
+    super();
+    this.policy = policy;
+    this.resetToEmptyState();
+  }
+
+  private int physical(int index) {
+    return index < gapStart ? index : index + (gapEnd - gapStart);
+  }
+
+  private void ensureGap(int count) {
+    if (gapEnd - gapStart < count) {
+      resize(policy.grow(contents.length, size() + count));
+    }
+  }
+
+  @Override
+  protected E findByIndex(int index) {
+    assert (isValidIndex(index));
+    return (E) contents[physical(index)];
+  }
+
+  @Override
+  protected E findByItem(E item) {
+    int index = indexOf(item);
+    return index != NULL_INDEX ? findByIndex(index) : null;
+  }
+
+  private void moveGapTo(int index) {
+    /* Clears the slots the moved items leave behind, so that the gap never holds on to them. */
+    if (index < gapStart) {
+      int count = gapStart - index;
+      int newGapEnd = gapEnd - count;
+      System.arraycopy(contents, index, contents, newGapEnd, count);
+      Arrays.fill(contents, index, Math.min(gapStart, newGapEnd), null);
+      gapStart = index;
+      gapEnd = newGapEnd;
+    } else if (index > gapStart) {
+      int count = index - gapStart;
+      int newGapEnd = gapEnd + count;
+      System.arraycopy(contents, gapEnd, contents, gapStart, count);
+      Arrays.fill(contents, Math.max(gapEnd, index), newGapEnd, null);
+      gapStart = index;
+      gapEnd = newGapEnd;
+    }
+  }
+
+  @Override
+  protected GapBufferList<E> newEmptyList() {
+    return new GapBufferList<>(policy);
+  }
+
+  private void resize(int length) {
+    /* Keeps the gap where it is, stretching or squeezing it to the new length. */
+    Object[] contents = length > 0 ? new Object[length] : EMPTY_CONTENTS;
+    int suffix = this.contents.length - gapEnd;
+    System.arraycopy(this.contents, 0, contents, 0, gapStart);
+    System.arraycopy(this.contents, gapEnd, contents, length - suffix, suffix);
+
+    this.gapEnd = length - suffix;
+    this.contents = contents;
+  }
+
+  @Override
+  protected void resetToEmptyState() {
+    super.resetToEmptyState();
+    gapStart = 0;
+    gapEnd = 0;
+    contents = EMPTY_CONTENTS;
+  }
+
+  private void shrink() {
+    int length = policy.shrink(contents.length, size());
+    if (length < contents.length) {
+      resize(length);
+    }
+  }
+
+  @Override
+  public GapBufferList<E> clone() {
+    GapBufferList<E> clone = newEmptyList();
+    clone.gapStart = gapStart;
+    clone.gapEnd = gapEnd;
+    clone.contents = contents.clone();
+    clone.increaseSizeBy(size());
+    return clone;
+  }
+
+  @Override
+  public int indexOf(E item) {
+    for (int i = 0; i < gapStart; i++) {
+      if (contents[i].equals(item)) {
+        return i;
+      }
+    }
+    for (int i = gapEnd; i < contents.length; i++) {
+      if (contents[i].equals(item)) {
+        return i - (gapEnd - gapStart);
+      }
+    }
+    return NULL_INDEX;
+  }
+
+  @Override
+  public void insertAll(List<E> items, int index) {
+    if (!isValidInclusiveIndex(index)) {
+      return;
+    }
+
+    Object[] source = items.toArray();
+    for (Object item : source) {
+      if (item == null) {
+        throw new NullPointerException("Cannot insert null into GapBufferList.");
+      }
+    }
+
+    moveGapTo(index);
+    ensureGap(source.length);
+    System.arraycopy(source, 0, contents, gapStart, source.length);
+    gapStart += source.length;
+    increaseSizeBy(source.length);
+  }
+
+  @Override
+  public void insertAt(E item, int index) {
+    if (item == null) {
+      throw new NullPointerException("Cannot insert null into GapBufferList.");
+    }
+
+    if (isValidInclusiveIndex(index)) {
+      moveGapTo(index);
+      ensureGap(1);
+      contents[gapStart++] = item;
+      incrementSize();
+    }
+  }
+
+  @Override
+  public Iterator<E> iterator() {
+    return new Iterator<E>() {
+      private int index = 0;
+
+      @Override
+      public boolean hasNext() {
+        return isValidIndex(index);
+      }
+
+      @Override
+      public E next() {
+        if (!hasNext()) {
+          throw new NoSuchElementException();
+        }
+        return findByIndex(index++);
+      }
+    };
+  }
+
+  @Override
+  public boolean remove(E item) {
+    int index = indexOf(item);
+    if (index == NULL_INDEX) {
+      return false;
+    }
+    removeAt(index);
+    return true;
+  }
+
+  @Override
+  public void removeAll(E item) {
+    /* Closes the gap at the end first, so that the items can be compacted in a single pass. */
+    moveGapTo(size());
+    int size = 0;
+    for (int i = 0; i < gapStart; i++) {
+      if (!contents[i].equals(item)) {
+        contents[size++] = contents[i];
+      }
+    }
+
+    Arrays.fill(contents, size, gapStart, null);
+    decreaseSizeBy(gapStart - size);
+    gapStart = size;
+    shrink();
+  }
+
+  @Override
+  public void removeAt(int index) {
+    removeRange(index, index + 1);
+  }
+
+  @Override
+  public void removeRange(int from, int to) {
+    if (0 <= from && from < to && to <= size()) {
+      moveGapTo(from);
+      int count = to - from;
+      Arrays.fill(contents, gapEnd, gapEnd + count, null);
+      gapEnd += count;
+      decreaseSizeBy(count);
+      shrink();
+    }
+  }
+
+  @Override
+  public void replaceAll(UnaryOperator<E> operator) {
+    for (int i = 0; i < gapStart; i++) {
+      contents[i] = operator.apply((E) contents[i]);
+    }
+    for (int i = gapEnd; i < contents.length; i++) {
+      contents[i] = operator.apply((E) contents[i]);
+    }
+  }
+
+  @Override
+  public E set(E item, int index) {
+    if (!isValidIndex(index)) {
+      return null;
+    }
+
+    int position = physical(index);
+    E prev = (E) contents[position];
+    contents[position] = item;
+    return prev;
+  }
+
+  @Override
+  public void sort(Comparator<? super E> comparator) {
+    moveGapTo(size());
+    Arrays.sort((E[]) contents, 0, size(), comparator);
+  }
+
+  @Override
+  public Object[] toArray() {
+    Object[] array = new Object[size()];
+    System.arraycopy(contents, 0, array, 0, gapStart);
+    System.arraycopy(contents, gapEnd, array, gapStart, contents.length - gapEnd);
+    return array;
+  }
+}
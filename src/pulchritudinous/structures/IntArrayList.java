@@ -0,0 +1,332 @@
+package pulchritudinous.structures;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.function.IntUnaryOperator;
+import java.util.function.UnaryOperator;
+
+public class IntArrayList extends AbstractList<Integer> {
+
+  private static final int INITIAL_LENGTH = 128;
+
+  private int firstIndex;
+  private int length;
+  private int[] contents;
+
+  public IntArrayList() {
+    super();
+    this.resetToEmptyState();
+  }
+
+  @Override
+  protected Integer findByIndex(int index) {
+    assert (isValidIndex(index));
+    return getAtIndex(index);
+  }
+
+  @Override
+  protected Integer findByItem(Integer item) {
+    return item != null && findIndexByItem(item) != NULL_INDEX ? item : null;
+  }
+
+  private int findIndexByItem(int item) {
+    for (int i = 0; i < size(); i++) {
+      if (getAtIndex(i) == item) {
+        return i;
+      }
+    }
+    return NULL_INDEX;
+  }
+
+  private void copyOut(int[] target, int index, int count) {
+    int start = offset(index);
+    int firstCount = Math.min(count, length - start);
+    System.arraycopy(contents, start, target, 0, firstCount);
+    System.arraycopy(contents, 0, target, firstCount, count - firstCount);
+  }
+
+  private void expand() {
+    int length = this.length << 1;
+    int[] contents = new int[length];
+    copyOut(contents, 0, size());
+
+    this.firstIndex = 0;
+    this.length = length;
+    this.contents = contents;
+  }
+
+  private int getAtIndex(int index) {
+    return contents[offset(index)];
+  }
+
+  private void move(int from, int to, int count) {
+    /* Moves items one contiguous segment at a time, copying away from the direction of travel. */
+    if (to < from) {
+      while (count > 0) {
+        int source = offset(from);
+        int target = offset(to);
+        int segment = Math.min(count, Math.min(length - source, length - target));
+        System.arraycopy(contents, source, contents, target, segment);
+        from += segment;
+        to += segment;
+        count -= segment;
+      }
+    } else if (to > from) {
+      while (count > 0) {
+        int sourceEnd = offset(from + count - 1) + 1;
+        int targetEnd = offset(to + count - 1) + 1;
+        int segment = Math.min(count, Math.min(sourceEnd, targetEnd));
+        System.arraycopy(contents, sourceEnd - segment, contents, targetEnd - segment, segment);
+        count -= segment;
+      }
+    }
+  }
+
+  @Override
+  protected IntArrayList newEmptyList() {
+    return new IntArrayList();
+  }
+
+  private void normalize() {
+    /* Rotates the ring so that the first item sits at the start of contents. */
+    if (firstIndex + size() > length) {
+      reverse(0, length);
+      reverse(0, length - firstIndex);
+      reverse(length - firstIndex, length);
+      firstIndex = 0;
+    }
+  }
+
+  private int offset(int index) {
+    return (firstIndex + index) & (length - 1);
+  }
+
+  @Override
+  protected void resetToEmptyState() {
+    super.resetToEmptyState();
+    firstIndex = 0;
+    length = INITIAL_LENGTH;
+    contents = new int[length];
+  }
+
+  private void reverse(int start, int end) {
+    for (int i = start, j = end - 1; i < j; i++, j--) {
+      int item = contents[i];
+      contents[i] = contents[j];
+      contents[j] = item;
+    }
+  }
+
+  private void shiftDownAndReplace(int start, int end, int item) {
+    move(start + 1, start, end - start);
+    setAtIndex(item, end);
+  }
+
+  private void shiftUpAndReplace(int start, int end, int item) {
+    move(start, start + 1, end - start);
+    setAtIndex(item, start);
+  }
+
+  private void setAtIndex(int item, int index) {
+    contents[offset(index)] = item;
+  }
+
+  public void addInt(int item) {
+    this.addLastInt(item);
+  }
+
+  public void addFirstInt(int item) {
+    this.insertIntAt(item, 0);
+  }
+
+  public void addLastInt(int item) {
+    this.insertIntAt(item, size());
+  }
+
+  @Override
+  public IntArrayList clone() {
+    IntArrayList clone = newEmptyList();
+    clone.length = length;
+    clone.contents = new int[length];
+    copyOut(clone.contents, 0, size());
+    clone.increaseSizeBy(size());
+    return clone;
+  }
+
+  public boolean contains(int item) {
+    return findIndexByItem(item) != NULL_INDEX;
+  }
+
+  public int firstInt() {
+    return this.getInt(0);
+  }
+
+  public int getInt(int index) {
+    if (!isValidIndex(index)) {
+      throw new IndexOutOfBoundsException("Index " + index + " is out of bounds for IntArrayList.");
+    }
+    return getAtIndex(index);
+  }
+
+  @Override
+  public int indexOf(Integer item) {
+    return item != null ? indexOf((int) item) : NULL_INDEX;
+  }
+
+  public int indexOf(int item) {
+    return findIndexByItem(item);
+  }
+
+  @Override
+  public void insertAt(Integer item, int index) {
+    if (item == null) {
+      throw new NullPointerException("Cannot insert null into IntArrayList.");
+    }
+    this.insertIntAt(item, index);
+  }
+
+  public void insertIntAt(int item, int index) {
+    if (isValidInclusiveIndex(index)) {
+      if (size() == length) {
+        this.expand();
+      }
+
+      int midpoint = (size() >> 1);
+      if (index <= midpoint) {
+        shiftDownAndReplace(-1, index - 1, item);
+        firstIndex = offset(-1);
+      } else {
+        shiftUpAndReplace(index, size(), item);
+      }
+      incrementSize();
+    }
+  }
+
+  @Override
+  public PrimitiveIterator.OfInt iterator() {
+    return new PrimitiveIterator.OfInt() {
+      private int index = 0;
+
+      @Override
+      public boolean hasNext() {
+        return isValidIndex(index);
+      }
+
+      @Override
+      public int nextInt() {
+        if (!hasNext()) {
+          throw new NoSuchElementException();
+        }
+        return getAtIndex(index++);
+      }
+    };
+  }
+
+  public int lastInt() {
+    return this.getInt(size() - 1);
+  }
+
+  public int pollInt() {
+    if (isEmpty()) {
+      throw new NoSuchElementException("Cannot poll an empty IntArrayList.");
+    }
+    int first = getAtIndex(0);
+    removeAt(0);
+    return first;
+  }
+
+  @Override
+  public boolean remove(Integer item) {
+    return item != null && removeInt(item);
+  }
+
+  @Override
+  public void removeAll(Integer item) {
+    if (item != null) {
+      removeAllInt(item);
+    }
+  }
+
+  public void removeAllInt(int item) {
+    int size = size();
+
+    for (int i = 0, j = 0; i < size; i++) {
+      int curr = getAtIndex(i);
+      if (curr != item) {
+        setAtIndex(curr, j++);
+      } else {
+        decrementSize();
+      }
+    }
+  }
+
+  @Override
+  public void removeAt(int index) {
+    if (isValidIndex(index)) {
+      int midpoint = (size() >> 1);
+      decrementSize();
+      if (index <= midpoint) {
+        shiftUpAndReplace(0, index, 0);
+        firstIndex = offset(1);
+      } else {
+        shiftDownAndReplace(index, size(), 0);
+      }
+    }
+  }
+
+  public boolean removeInt(int item) {
+    int index = findIndexByItem(item);
+    if (!isValidIndex(index)) {
+      return false;
+    }
+    removeAt(index);
+    return true;
+  }
+
+  @Override
+  public void replaceAll(UnaryOperator<Integer> operator) {
+    for (int i = 0; i < size(); i++) {
+      Integer item = operator.apply(getAtIndex(i));
+      if (item == null) {
+        throw new NullPointerException("Cannot insert null into IntArrayList.");
+      }
+      setAtIndex(item, i);
+    }
+  }
+
+  public void replaceAllInt(IntUnaryOperator operator) {
+    for (int i = 0; i < size(); i++) {
+      setAtIndex(operator.applyAsInt(getAtIndex(i)), i);
+    }
+  }
+
+  @Override
+  public Integer set(Integer item, int index) {
+    if (!isValidIndex(index)) {
+      return null;
+    }
+    if (item == null) {
+      throw new NullPointerException("Cannot insert null into IntArrayList.");
+    }
+    return setInt(item, index);
+  }
+
+  public int setInt(int item, int index) {
+    int prev = getInt(index);
+    setAtIndex(item, index);
+    return prev;
+  }
+
+  /* Sorts the items into ascending order without boxing. */
+  public void sort() {
+    normalize();
+    Arrays.sort(contents, firstIndex, firstIndex + size());
+  }
+
+  public int[] toIntArray() {
+    int[] array = new int[size()];
+    copyOut(array, 0, size());
+    return array;
+  }
+}
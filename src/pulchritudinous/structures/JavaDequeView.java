@@ -0,0 +1,216 @@
+package pulchritudinous.structures;
+
+import java.util.AbstractCollection;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+
+/*
+ * Exposes a List as a java.util.Deque, so that it can be handed to library code without copying it.
+ * Every change goes through a JavaListView of the same list, so that the iterators of the two views
+ * fail fast alike and both reject null items.
+ */
+public final class JavaDequeView<E> extends AbstractCollection<E> implements Deque<E> {
+
+  private final List<E> list;
+  private final JavaListView<E> view;
+
+  JavaDequeView(List<E> list) {
+    this.list = list;
+    this.view = new JavaListView<>(list);
+  }
+
+  private void checkNotEmpty() {
+    if (list.isEmpty()) {
+      throw new NoSuchElementException();
+    }
+  }
+
+  @Override
+  public boolean add(E item) {
+    return view.add(item);
+  }
+
+  @Override
+  public boolean addAll(Collection<? extends E> items) {
+    return view.addAll(items);
+  }
+
+  @Override
+  public void addFirst(E item) {
+    view.add(0, item);
+  }
+
+  @Override
+  public void addLast(E item) {
+    view.add(item);
+  }
+
+  @Override
+  public void clear() {
+    view.clear();
+  }
+
+  @Override
+  public boolean contains(Object item) {
+    return view.contains(item);
+  }
+
+  @Override
+  public Iterator<E> descendingIterator() {
+    return new Iterator<E>() {
+      private int index = list.size();
+
+      @Override
+      public boolean hasNext() {
+        return index > 0;
+      }
+
+      @Override
+      public E next() {
+        if (!hasNext()) {
+          throw new NoSuchElementException();
+        }
+        return list.get(--index);
+      }
+    };
+  }
+
+  @Override
+  public E element() {
+    return getFirst();
+  }
+
+  @Override
+  public E getFirst() {
+    checkNotEmpty();
+    return list.first();
+  }
+
+  @Override
+  public E getLast() {
+    checkNotEmpty();
+    return list.last();
+  }
+
+  @Override
+  public Iterator<E> iterator() {
+    return view.iterator();
+  }
+
+  @Override
+  public boolean offer(E item) {
+    return add(item);
+  }
+
+  @Override
+  public boolean offerFirst(E item) {
+    addFirst(item);
+    return true;
+  }
+
+  @Override
+  public boolean offerLast(E item) {
+    addLast(item);
+    return true;
+  }
+
+  @Override
+  public E peek() {
+    return peekFirst();
+  }
+
+  @Override
+  public E peekFirst() {
+    return list.first();
+  }
+
+  @Override
+  public E peekLast() {
+    return list.last();
+  }
+
+  @Override
+  public E poll() {
+    return pollFirst();
+  }
+
+  @Override
+  public E pollFirst() {
+    return list.isEmpty() ? null : view.remove(0);
+  }
+
+  @Override
+  public E pollLast() {
+    return list.isEmpty() ? null : view.remove(list.size() - 1);
+  }
+
+  @Override
+  public E pop() {
+    return removeFirst();
+  }
+
+  @Override
+  public void push(E item) {
+    addFirst(item);
+  }
+
+  @Override
+  public E remove() {
+    return removeFirst();
+  }
+
+  @Override
+  public boolean remove(Object item) {
+    return removeFirstOccurrence(item);
+  }
+
+  @Override
+  public E removeFirst() {
+    checkNotEmpty();
+    return pollFirst();
+  }
+
+  @Override
+  public boolean removeFirstOccurrence(Object item) {
+    return view.remove(item);
+  }
+
+  @Override
+  public E removeLast() {
+    checkNotEmpty();
+    return pollLast();
+  }
+
+  @Override
+  public boolean removeLastOccurrence(Object item) {
+    int index = view.lastIndexOf(item);
+    if (index == -1) {
+      return false;
+    }
+    view.remove(index);
+    return true;
+  }
+
+  @Override
+  public int size() {
+    return list.size();
+  }
+
+  @Override
+  public Spliterator<E> spliterator() {
+    return list.spliterator();
+  }
+
+  @Override
+  public Object[] toArray() {
+    return list.toArray();
+  }
+
+  @Override
+  public <T> T[] toArray(T[] array) {
+    return list.toArray(array);
+  }
+}
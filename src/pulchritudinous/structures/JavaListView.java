@@ -0,0 +1,186 @@
+package pulchritudinous.structures;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Spliterator;
+
+/*
+ * Exposes a List as a java.util.List, so that it can be handed to library code without copying it.
+ * Every call goes straight through to the list, and so costs whatever the same operation costs on the
+ * list itself. Like the lists it wraps, the view rejects null items. JavaDequeView does the same for
+ * java.util.Deque, which cannot share a class with java.util.List since both declare reversed().
+ */
+public final class JavaListView<E> extends java.util.AbstractList<E> {
+
+  private final List<E> list;
+
+  JavaListView(List<E> list) {
+    this.list = list;
+  }
+
+  private static <E> E checkNotNull(E item) {
+    if (item == null) {
+      throw new NullPointerException("Cannot insert null into JavaListView.");
+    }
+    return item;
+  }
+
+  private void checkIndex(int index, int size) {
+    if (index < 0 || index >= size) {
+      throw new IndexOutOfBoundsException("Index " + index + " is out of bounds for size " + size + ".");
+    }
+  }
+
+  @Override
+  public boolean add(E item) {
+    list.addLast(checkNotNull(item));
+    modCount++;
+    return true;
+  }
+
+  @Override
+  public void add(int index, E item) {
+    checkIndex(index, list.size() + 1);
+    list.insertAt(checkNotNull(item), index);
+    modCount++;
+  }
+
+  /* Hands a whole List over in one go, which lets the list take its own fast paths. */
+  @Override
+  public boolean addAll(Collection<? extends E> items) {
+    if (items instanceof JavaListView) {
+      list.addAll(((JavaListView<E>) items).list);
+    } else {
+      E[] array = (E[]) items.toArray();
+      list.addAll(array, 0, array.length);
+    }
+    modCount++;
+    return !items.isEmpty();
+  }
+
+  @Override
+  public void clear() {
+    list.clear();
+    modCount++;
+  }
+
+  @Override
+  public boolean contains(Object item) {
+    return item != null && list.contains((E) item);
+  }
+
+  /*
+   * Walks the list with its own iterator, rather than calling get for every index as
+   * java.util.AbstractList would. Removing an item starts a fresh walk from just past it.
+   */
+  @Override
+  public Iterator<E> iterator() {
+    return new Iterator<E>() {
+      private Iterator<E> items = list.iterator();
+      private int index = 0;
+      private boolean canRemove = false;
+      private int expectedModCount = modCount;
+
+      private void checkForComodification() {
+        if (modCount != expectedModCount) {
+          throw new ConcurrentModificationException();
+        }
+      }
+
+      @Override
+      public boolean hasNext() {
+        return items.hasNext();
+      }
+
+      @Override
+      public E next() {
+        checkForComodification();
+        E item = items.next();
+        index++;
+        canRemove = true;
+        return item;
+      }
+
+      @Override
+      public void remove() {
+        if (!canRemove) {
+          throw new IllegalStateException();
+        }
+        checkForComodification();
+        list.removeAt(--index);
+        items = list.subList(index, list.size()).iterator();
+        canRemove = false;
+        expectedModCount = ++modCount;
+      }
+    };
+  }
+
+  @Override
+  public E get(int index) {
+    checkIndex(index, list.size());
+    return list.get(index);
+  }
+
+  @Override
+  public int indexOf(Object item) {
+    return item != null ? list.indexOf((E) item) : -1;
+  }
+
+  @Override
+  public E remove(int index) {
+    checkIndex(index, list.size());
+    E item = list.get(index);
+    list.removeAt(index);
+    modCount++;
+    return item;
+  }
+
+  @Override
+  public boolean remove(Object item) {
+    if (item == null || !list.remove((E) item)) {
+      return false;
+    }
+    modCount++;
+    return true;
+  }
+
+  @Override
+  protected void removeRange(int from, int to) {
+    list.removeRange(from, to);
+    modCount++;
+  }
+
+  @Override
+  public E set(int index, E item) {
+    checkIndex(index, list.size());
+    return list.set(checkNotNull(item), index);
+  }
+
+  @Override
+  public int size() {
+    return list.size();
+  }
+
+  @Override
+  public void sort(Comparator<? super E> comparator) {
+    list.sort(comparator != null ? comparator : (Comparator<? super E>) Comparator.naturalOrder());
+    modCount++;
+  }
+
+  @Override
+  public Spliterator<E> spliterator() {
+    return list.spliterator();
+  }
+
+  @Override
+  public Object[] toArray() {
+    return list.toArray();
+  }
+
+  @Override
+  public <T> T[] toArray(T[] array) {
+    return list.toArray(array);
+  }
+}
@@ -0,0 +1,276 @@
+package pulchritudinous.structures;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+
+/*
+ * Exposes a java.util list through List without copying it, the reverse of asJavaList. Lists made by
+ * clone, pollMany and subList are built by the copier, which is java.util.ArrayList unless given.
+ */
+public class JavaUtilList<E> implements List<E> {
+
+  private final java.util.List<E> list;
+  private final Function<Collection<E>, java.util.List<E>> copier;
+
+  JavaUtilList(Function<Collection<E>, java.util.List<E>> copier) {
+    this(copier.apply(Collections.emptyList()), copier);
+  }
+
+  private JavaUtilList(java.util.List<E> list, Function<Collection<E>, java.util.List<E>> copier) {
+    this.list = list;
+    this.copier = copier;
+  }
+
+  public static <E> JavaUtilList<E> wrap(java.util.List<E> list) {
+    return new JavaUtilList<>(list, java.util.ArrayList::new);
+  }
+
+  private static <E> E checkNotNull(E item) {
+    if (item == null) {
+      throw new NullPointerException("Cannot insert null into JavaUtilList.");
+    }
+    return item;
+  }
+
+  private boolean isValidIndex(int index) {
+    return 0 <= index && index < size();
+  }
+
+  @Override
+  public void add(E item) {
+    list.add(checkNotNull(item));
+  }
+
+  /* Hands the items over as a java.util.List, so that the wrapped list can copy them in a single batch. */
+  @Override
+  public void addAll(List<E> items) {
+    list.addAll(items.asJavaList());
+  }
+
+  @Override
+  public void addAll(E[] items, int from, int to) {
+    if (0 <= from && from <= to && to <= items.length) {
+      java.util.List<E> source = Arrays.asList(items).subList(from, to);
+      for (E item : source) {
+        checkNotNull(item);
+      }
+      list.addAll(source);
+    }
+  }
+
+  @Override
+  public void addFirst(E item) {
+    list.add(0, checkNotNull(item));
+  }
+
+  @Override
+  public void addLast(E item) {
+    list.add(checkNotNull(item));
+  }
+
+  @Override
+  public JavaDequeView<E> asJavaDeque() {
+    return new JavaDequeView<>(this);
+  }
+
+  @Override
+  public JavaListView<E> asJavaList() {
+    return new JavaListView<>(this);
+  }
+
+  @Override
+  public void clear() {
+    list.clear();
+  }
+
+  @Override
+  public List<E> clone() {
+    return new JavaUtilList<>(copier.apply(list), copier);
+  }
+
+  @Override
+  public boolean contains(E item) {
+    return list.contains(item);
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    } else if (obj instanceof List) {
+      return Arrays.equals(toArray(), ((List) obj).toArray());
+    } else {
+      return false;
+    }
+  }
+
+  @Override
+  public E first() {
+    return get(0);
+  }
+
+  @Override
+  public E get(int index) {
+    return isValidIndex(index) ? list.get(index) : null;
+  }
+
+  /* Agrees with both AbstractList and java.util.List, which hash their items the same way. */
+  @Override
+  public int hashCode() {
+    return list.hashCode();
+  }
+
+  @Override
+  public int indexOf(E item) {
+    return list.indexOf(item);
+  }
+
+  @Override
+  public int drainTo(Consumer<? super E> consumer, int max) {
+    java.util.List<E> drained = list.subList(0, Math.max(0, Math.min(max, size())));
+    int n = drained.size();
+    drained.forEach(consumer);
+    drained.clear();
+    return n;
+  }
+
+  @Override
+  public int drainTo(E[] items, int max) {
+    java.util.List<E> drained = list.subList(0, Math.max(0, Math.min(Math.min(max, items.length), size())));
+    int n = drained.size();
+    for (int i = 0; i < n; i++) {
+      items[i] = drained.get(i);
+    }
+    drained.clear();
+    return n;
+  }
+
+  @Override
+  public void insertAll(List<E> items, int index) {
+    if (isValidIndex(index) || index == size()) {
+      list.addAll(index, items.asJavaList());
+    }
+  }
+
+  @Override
+  public void insertAt(E item, int index) {
+    checkNotNull(item);
+    if (isValidIndex(index) || index == size()) {
+      list.add(index, item);
+    }
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return list.isEmpty();
+  }
+
+  @Override
+  public Iterator<E> iterator() {
+    return list.iterator();
+  }
+
+  @Override
+  public E last() {
+    return get(size() - 1);
+  }
+
+  @Override
+  public Stream<E> parallelStream() {
+    return list.parallelStream();
+  }
+
+  @Override
+  public E poll() {
+    return isEmpty() ? null : list.remove(0);
+  }
+
+  @Override
+  public List<E> pollMany(int n) {
+    if (n < 0 || n > size()) {
+      return null;
+    }
+
+    java.util.List<E> polled = list.subList(0, n);
+    List<E> that = new JavaUtilList<>(copier.apply(polled), copier);
+    polled.clear();
+    return that;
+  }
+
+  @Override
+  public boolean remove(E item) {
+    return list.remove(item);
+  }
+
+  @Override
+  public void removeAll(E item) {
+    list.removeIf(item::equals);
+  }
+
+  @Override
+  public void removeAt(int index) {
+    if (isValidIndex(index)) {
+      list.remove(index);
+    }
+  }
+
+  @Override
+  public void removeRange(int from, int to) {
+    if (0 <= from && from <= to && to <= size()) {
+      list.subList(from, to).clear();
+    }
+  }
+
+  @Override
+  public void replaceAll(UnaryOperator<E> operator) {
+    list.replaceAll(item -> checkNotNull(operator.apply(item)));
+  }
+
+  @Override
+  public E set(E item, int index) {
+    return isValidIndex(index) ? list.set(index, checkNotNull(item)) : null;
+  }
+
+  @Override
+  public int size() {
+    return list.size();
+  }
+
+  @Override
+  public void sort(Comparator<? super E> comparator) {
+    list.sort(comparator);
+  }
+
+  @Override
+  public Spliterator<E> spliterator() {
+    return list.spliterator();
+  }
+
+  @Override
+  public Stream<E> stream() {
+    return list.stream();
+  }
+
+  @Override
+  public List<E> subList(int from, int to) {
+    return 0 <= from && from <= to && to <= size() ? new JavaUtilList<>(list.subList(from, to), copier) : null;
+  }
+
+  @Override
+  public Object[] toArray() {
+    return list.toArray();
+  }
+
+  @Override
+  public <T> T[] toArray(T[] array) {
+    return list.toArray(array);
+  }
+}
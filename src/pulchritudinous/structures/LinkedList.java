@@ -1,17 +1,61 @@
 package pulchritudinous.structures;
 
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.util.Comparator;
 import java.util.Iterator;
-import java.util.function.Function;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
 import java.util.function.UnaryOperator;
 
 public class LinkedList<E> extends AbstractList<E> {
 
   private final Node head, tail;
+  private final ItemIndex index;
+
+  /* Removed nodes kept for reuse, chained through their next pointers, up to the pool's capacity. */
+  private final int poolCapacity;
+  private Node pool;
+  private int poolSize;
+
+  /*
+   * The node last found by index, from which nearby indexes are walked to; null whenever it is unknown.
+   * Reads move it too, so the node and its index are published together in one immutable Finger, and
+   * readers sharing the list under a read lock each see a consistent pair. A read overlapping a write
+   * could leave behind a finger worked out from half-changed links, so the list is never read
+   * optimistically.
+   */
+  private Finger finger;
 
   public LinkedList() {
+    this(false);
+  }
+
+  /*
+   * An indexed list also keeps a hash table from each item to the nodes holding it, which makes
+   * contains and remove(item) O(1) and lets indexOf skip straight to absent items, at the cost of
+   * updating the table on every insert and removal.
+   */
+  public LinkedList(boolean isIndexed) {
+    this(isIndexed, 0);
+  }
+
+  /*
+   * Keeps up to poolCapacity removed nodes to hold the next items inserted, so that a list whose
+   * size goes up and down within that margin stops allocating altogether.
+   */
+  public LinkedList(boolean isIndexed, int poolCapacity) {
     super();
+    if (poolCapacity < 0) {
+      throw new IllegalArgumentException("Cannot create a LinkedList with negative pool capacity.");
+    }
+
     this.head = new Node(null);
     this.tail = new Node(null);
+    this.index = isIndexed ? new ItemIndex() : null;
+    this.poolCapacity = poolCapacity;
     this.resetToEmptyState();
   }
 
@@ -29,26 +73,98 @@ public class LinkedList<E> extends AbstractList<E> {
 
   private Node findNodeByIndex(int index) {
     assert (isValidInclusiveIndex(index));
-    int midpoint = (size() >> 1);
-    if (index <= midpoint) {
-      return head.walkForwards(index + 1);
+    /* Walks from whichever of head, tail and the finger is nearest. */
+    Finger finger = this.finger;
+    int fromHead = index + 1;
+    int fromTail = size() - index;
+    int fromFinger = isValid(finger) ? Math.abs(index - finger.index) : Integer.MAX_VALUE;
+    Node node;
+    if (fromFinger < Math.min(fromHead, fromTail)) {
+      node = index >= finger.index ? finger.node.walkForwards(fromFinger) : finger.node.walkBackwards(fromFinger);
+      Metrics.walked(fromFinger);
+    } else if (fromHead <= fromTail) {
+      node = head.walkForwards(fromHead);
+      Metrics.walked(fromHead);
     } else {
-      return tail.walkBackwards(size() - index);
+      node = tail.walkBackwards(fromTail);
+      Metrics.walked(fromTail);
+    }
+    moveFinger(node, index);
+    return node;
+  }
+
+  /* Checks that the finger still points into the list, since a recycled node has no prev and the list may have shrunk. */
+  private boolean isValid(Finger finger) {
+    return finger != null && finger.index < size() && finger.node.prev != null;
+  }
+
+  private void moveFinger(Node node, int index) {
+    if (node != tail && (finger == null || finger.node != node)) {
+      finger = new Finger(node, index);
+    }
+  }
+
+  /* Unlinks the count nodes in [first, end) from the list in one go. */
+  private void detach(Node first, Node end, int count) {
+    if (index != null) {
+      for (Node curr = first; curr != end; curr = curr.next) {
+        index.remove(curr);
+      }
+    }
+    first.prev.setNext(end);
+    finger = null;
+    decreaseSizeBy(count);
+    recycle(first, end);
+  }
+
+  private Node endOfRun(Node node, Comparator<? super E> comparator) {
+    while (node.next != tail && comparator.compare(node.item, node.next.item) <= 0) {
+      node = node.next;
+    }
+    return node;
+  }
+
+  /*
+   * Merges the run following last, which ends at leftEnd, with the run that follows it up to rightEnd.
+   * Each node of the right run is moved in front of the first greater node of the left run, so ties
+   * keep the left run first and the chain stays whole between comparisons. Returns the merged run's end.
+   */
+  private Node merge(Node last, Node leftEnd, Node rightEnd, Comparator<? super E> comparator) {
+    Node stop = rightEnd.next;
+    while (last != leftEnd && leftEnd.next != stop) {
+      Node left = last.next;
+      Node right = leftEnd.next;
+      if (comparator.compare(left.item, right.item) > 0) {
+        leftEnd.next = right.next;
+        right.next = left;
+        last.next = right;
+      }
+      last = last.next;
     }
+    return leftEnd.next == stop ? leftEnd : rightEnd;
   }
 
   private Node findNodeByItem(E item) {
+    if (index != null) {
+      return index.get(item);
+    }
+
+    int scanned = 0;
     for (Node curr = head.next; curr != tail; curr = curr.next) {
+      scanned++;
       if (curr.item.equals(item)) {
+        Metrics.scanned(scanned);
         return curr;
       }
     }
+    Metrics.scanned(scanned);
     return null;
   }
 
   @Override
   public Iterator<E> iterator() {
     return new Iterator<E>() {
+      private final int expectedModCount = modCount;
       private Node curr = head.next;
 
       @Override
@@ -58,6 +174,10 @@ public class LinkedList<E> extends AbstractList<E> {
 
       @Override
       public E next() {
+        checkModCount(expectedModCount);
+        if (!hasNext()) {
+          throw new NoSuchElementException();
+        }
         E item = curr.item;
         curr = curr.next;
         return item;
@@ -65,15 +185,147 @@ public class LinkedList<E> extends AbstractList<E> {
     };
   }
 
+  private Node newNode(E item) {
+    if (pool == null) {
+      return index != null ? new IndexedNode(item) : new Node(item);
+    }
+
+    Node node = pool;
+    pool = node.next;
+    poolSize--;
+    node.item = item;
+    node.next = null;
+    return node;
+  }
+
+  @Override
+  protected int computeHashCode() {
+    int hash = 1;
+    for (Node curr = head.next; curr != tail; curr = curr.next) {
+      hash = 31 * hash + curr.item.hashCode();
+    }
+    return hash;
+  }
+
+  @Override
+  protected boolean isSafeToReadOptimistically() {
+    return false;
+  }
+
   @Override
   protected LinkedList<E> newEmptyList() {
-    return new LinkedList<>();
+    return new LinkedList<>(index != null, poolCapacity);
+  }
+
+  /* Pools the nodes in [first, end) until the pool is full, without walking any further than that. */
+  private void recycle(Node first, Node end) {
+    for (Node curr = first; curr != end && poolSize < poolCapacity; ) {
+      Node next = curr.next;
+      curr.item = null;
+      curr.prev = null;
+      if (index != null) {
+        /* Otherwise a pooled node would keep the rest of its chain, and all their items, reachable. */
+        ((IndexedNode) curr).prevSame = null;
+        ((IndexedNode) curr).nextSame = null;
+      }
+      curr.next = pool;
+      pool = curr;
+      poolSize++;
+      curr = next;
+    }
   }
 
   @Override
   protected void resetToEmptyState() {
     super.resetToEmptyState();
+    if (head.next != null) {
+      recycle(head.next, tail);
+    }
     head.setNext(tail);
+    finger = null;
+    if (index != null) {
+      index.clear();
+    }
+  }
+
+  /* Returns a cursor placed before the first item. */
+  public Cursor cursor() {
+    return new Cursor(head);
+  }
+
+  /* Returns a cursor placed on the item at the given index. */
+  public Cursor cursor(int index) {
+    return isValidIndex(index) ? new Cursor(findNodeByIndex(index)) : null;
+  }
+
+  @Override
+  public boolean contains(E item) {
+    return findNodeByItem(item) != null;
+  }
+
+  @Override
+  public int drainTo(Consumer<? super E> consumer, int max) {
+    int n = Math.max(0, Math.min(max, size()));
+    Node end = head.next;
+    for (int i = 0; i < n; i++) {
+      consumer.accept(end.item);
+      end = end.next;
+    }
+    detach(head.next, end, n);
+    return n;
+  }
+
+  @Override
+  public int drainTo(E[] items, int max) {
+    int n = Math.max(0, Math.min(Math.min(max, items.length), size()));
+    Node end = head.next;
+    for (int i = 0; i < n; i++) {
+      items[i] = end.item;
+      end = end.next;
+    }
+    detach(head.next, end, n);
+    return n;
+  }
+
+  @Override
+  public int hashCode() {
+    return cachedHashCode();
+  }
+
+  @Override
+  public int indexOf(E item) {
+    if (index == null) {
+      return super.indexOf(item);
+    }
+
+    Node node = index.get(item);
+    if (node == null) {
+      return NULL_INDEX;
+    }
+
+    int position = 0;
+    for (Node curr = head.next; curr != node; curr = curr.next) {
+      position++;
+    }
+    return position;
+  }
+
+  @Override
+  public void insertAll(List<E> items, int index) {
+    if (isValidInclusiveIndex(index)) {
+      Object[] source = items.toArray();
+      for (Object item : source) {
+        if (item == null) {
+          throw new NullPointerException("Cannot insert null into LinkedList.");
+        }
+      }
+
+      Node node = findNodeByIndex(index);
+      for (Object item : source) {
+        node.insertItemJustBefore((E) item);
+      }
+      moveFinger(node, index + source.length);
+    }
   }
 
   @Override
@@ -81,9 +333,17 @@ public class LinkedList<E> extends AbstractList<E> {
     if (isValidInclusiveIndex(index)) {
       Node node = findNodeByIndex(index);
       node.insertItemJustBefore(item);
+      moveFinger(node.prev, index);
     }
   }
 
+  /* Reads a checkpoint written by writeTo, leaving the channel just past it. */
+  public static <E> LinkedList<E> readFrom(FileChannel channel, Codec<E> codec) throws IOException {
+    LinkedList<E> list = new LinkedList<>();
+    Checkpoint.read(channel, codec, list::addLast);
+    return list;
+  }
+
   @Override
   public boolean remove(E item) {
     Node node = findNodeByItem(item);
@@ -96,7 +356,15 @@ public class LinkedList<E> extends AbstractList<E> {
 
   @Override
   public void removeAll(E item) {
-    for (Node curr = head.next; curr != tail; curr = curr.next) {
+    if (index != null) {
+      for (Node node = index.get(item); node != null; node = index.get(item)) {
+        node.removeFromList();
+      }
+      return;
+    }
+
+    for (Node curr = head.next, next; curr != tail; curr = next) {
+      next = curr.next;
       if (curr.item.equals(item)) {
         curr.removeFromList();
       }
@@ -107,7 +375,19 @@ public class LinkedList<E> extends AbstractList<E> {
   public void removeAt(int index) {
     if (isValidIndex(index)) {
       Node node = findNodeByIndex(index);
+      Node next = node.next;
       node.removeFromList();
+      moveFinger(next, index);
+    }
+  }
+
+  @Override
+  public void removeRange(int from, int to) {
+    if (0 <= from && from < to && to <= size()) {
+      Node first = findNodeByIndex(from);
+      Node end = findNodeByIndex(to);
+      detach(first, end, to - from);
+      moveFinger(end, from);
     }
   }
 
@@ -125,13 +405,73 @@ public class LinkedList<E> extends AbstractList<E> {
     }
 
     Node node = findNodeByIndex(index);
+    E prev = node.item;
     node.replaceWith(item);
-    return node.item;
+    return prev;
+  }
+
+  /*
+   * Sorts the items with a bottom-up natural merge sort, which relinks the existing nodes instead
+   * of allocating new ones. While sorting, only the next pointers are maintained; the prev pointers
+   * and the index are restored at the end, even if the comparator throws part way through.
+   */
+  @Override
+  public void sort(Comparator<? super E> comparator) {
+    if (size() <= 1) {
+      return;
+    }
+
+    modCount++;
+    finger = null;
+    comparator = Metrics.counting(comparator);
+
+    try {
+      boolean isSorted = false;
+      while (!isSorted) {
+        Node last = head;
+        isSorted = true;
+
+        /* Merges each pair of neighbouring runs into a single run. */
+        while (last.next != tail) {
+          Node leftEnd = endOfRun(last.next, comparator);
+          if (leftEnd.next == tail) {
+            break;
+          }
+
+          isSorted = false;
+          Node rightEnd = endOfRun(leftEnd.next, comparator);
+          last = merge(last, leftEnd, rightEnd, comparator);
+        }
+      }
+    } finally {
+      for (Node curr = head; curr != tail; curr = curr.next) {
+        curr.next.prev = curr;
+      }
+
+      /* Sorting reorders equal items among themselves, so the index is rebuilt in the new order. */
+      if (index != null) {
+        index.rebuild();
+      }
+    }
+  }
+
+  @Override
+  public Spliterator<E> spliterator() {
+    return new NodeSpliterator(head.next, size());
+  }
+
+  public void writeTo(FileChannel channel, Codec<E> codec) throws IOException {
+    Checkpoint.Writer<E> writer = new Checkpoint.Writer<>(channel, codec, size());
+    for (Node curr = head.next; curr != tail; curr = curr.next) {
+      writer.write(curr.item);
+    }
+    writer.finish();
   }
 
   private class Node {
-    private final E item;
-    private Node prev, next;
+    /* Not private, so that they can be reached through an IndexedNode too. */
+    E item;
+    Node prev, next;
 
     private Node(E item) {
       this.item = item;
@@ -154,38 +494,421 @@ public class LinkedList<E> extends AbstractList<E> {
         throw new NullPointerException("Cannot insert null into LinkedList.");
       }
 
-      Node node = new Node(item);
+      Node node = newNode(item);
       node.setPrev(prev);
       node.setNext(this);
       incrementSize();
+      finger = null;
+      if (index != null) {
+        index.add(node);
+      }
     }
 
     public void removeFromList() {
       assert (prev != null && next != null);
       prev.setNext(next);
       decrementSize();
+      finger = null;
+      if (index != null) {
+        index.remove(this);
+      }
+      recycle(this, next);
     }
 
     public void replaceWith(E item) {
-      this.insertItemJustBefore(item);
-      this.removeFromList();
-    }
+      if (item == null) {
+        throw new NullPointerException("Cannot insert null into LinkedList.");
+      }
 
-    private Node walk(int steps, Function<Node, Node> walker) {
-      if (steps > 0) {
-        Node node = walker.apply(this);
-        assert (node != null);
-        return node.walk(steps - 1, walker);
+      if (index != null) {
+        index.remove(this);
+        this.item = item;
+        index.chain((IndexedNode) this);
+      } else {
+        this.item = item;
       }
-      return this;
+      invalidateHashCode();
     }
 
     public Node walkForwards(int steps) {
-      return walk(steps, node -> node.next);
+      Node node = this;
+      for (; steps > 0; steps--) {
+        node = node.next;
+      }
+      return node;
     }
 
     public Node walkBackwards(int steps) {
-      return walk(steps, node -> node.prev);
+      Node node = this;
+      for (; steps > 0; steps--) {
+        node = node.prev;
+      }
+      return node;
+    }
+  }
+
+  private final class Finger {
+    private final Node node;
+    private final int index;
+
+    private Finger(Node node, int index) {
+      this.node = node;
+      this.index = index;
+    }
+  }
+
+  /*
+   * The node of an indexed list, which also carries its place in the list as a label, increasing
+   * from the first node to the last, and its neighbours in the circular chain of nodes holding an
+   * equal item. Unindexed lists use plain nodes and pay for none of this.
+   */
+  private class IndexedNode extends Node {
+    private long label;
+    private IndexedNode prevSame, nextSame;
+
+    private IndexedNode(E item) {
+      super(item);
+    }
+  }
+
+  /*
+   * Walks the list in either direction while changing it around the current item in O(1). The cursor
+   * sits on an item, or before the first item, where inserting after it adds to the front; next()
+   * and previous() move it onto the following or preceding item. Any change made to the list other
+   * than through the cursor invalidates it.
+   */
+  public final class Cursor {
+    private Node curr;
+    private int expectedModCount;
+
+    private Cursor(Node curr) {
+      this.curr = curr;
+      this.expectedModCount = modCount;
+    }
+
+    private void checkOnItem() {
+      checkModCount(expectedModCount);
+      if (curr == head) {
+        throw new IllegalStateException("Cursor is not on an item.");
+      }
+    }
+
+    public boolean hasNext() {
+      checkModCount(expectedModCount);
+      return curr.next != tail;
+    }
+
+    public boolean hasPrevious() {
+      checkModCount(expectedModCount);
+      return curr != head && curr.prev != head;
+    }
+
+    public E get() {
+      checkOnItem();
+      return curr.item;
+    }
+
+    public E next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      curr = curr.next;
+      return curr.item;
+    }
+
+    public E previous() {
+      if (!hasPrevious()) {
+        throw new NoSuchElementException();
+      }
+      curr = curr.prev;
+      return curr.item;
+    }
+
+    /* Inserts the item before the current one, so that it is skipped by next() but not by previous(). */
+    public void insertBefore(E item) {
+      checkModCount(expectedModCount);
+      if (curr == head) {
+        throw new IllegalStateException("Cannot insert before the start of the list.");
+      }
+      curr.insertItemJustBefore(item);
+      expectedModCount = modCount;
+    }
+
+    /* Inserts the item after the current one, so that it is the next item returned by next(). */
+    public void insertAfter(E item) {
+      checkModCount(expectedModCount);
+      curr.next.insertItemJustBefore(item);
+      expectedModCount = modCount;
+    }
+
+    /* Removes the current item and steps back onto the one before it, so that next() carries on where it left off. */
+    public void remove() {
+      checkOnItem();
+      Node prev = curr.prev;
+      curr.removeFromList();
+      curr = prev;
+      expectedModCount = modCount;
+    }
+
+    public E set(E item) {
+      checkOnItem();
+      E prev = curr.item;
+      curr.replaceWith(item);
+      expectedModCount = modCount;
+      return prev;
+    }
+  }
+
+  /*
+   * An open-addressing hash table, probed linearly, that maps each item to the first node holding it.
+   * The nodes holding equal items are chained together in list order, so that removing the first
+   * of them hands its place in the table to the next. A node finds its place in the chain by its
+   * label, which is kept in list order with Bender et al.'s order maintenance: a new node takes a
+   * label between its neighbours', and when there is none to spare, the smallest sufficiently sparse
+   * aligned range of labels around it is spread out evenly, in amortised O(log n).
+   */
+  private class ItemIndex {
+    private static final int INITIAL_LENGTH = 16;
+
+    private static final long LABEL_LIMIT = 1L << 62;
+    private static final long LABEL_GAP = 1L << 32;
+    private static final double OVERFLOW = 1.5;
+
+    private IndexedNode[] table;
+    private int count;
+
+    private int spread(Object item) {
+      int hash = item.hashCode();
+      return hash ^ (hash >>> 16);
+    }
+
+    private int slotOf(Object item) {
+      int mask = table.length - 1;
+      int slot = spread(item) & mask;
+      while (table[slot] != null && !table[slot].item.equals(item)) {
+        slot = (slot + 1) & mask;
+      }
+      return slot;
+    }
+
+    private void clear() {
+      table = (IndexedNode[]) new LinkedList.IndexedNode[INITIAL_LENGTH];
+      count = 0;
+    }
+
+    private IndexedNode get(Object item) {
+      return table[slotOf(item)];
+    }
+
+    /* Indexes a node that has just been linked into the list. */
+    private void add(Node node) {
+      IndexedNode indexed = (IndexedNode) node;
+      label(indexed);
+      chain(indexed);
+    }
+
+    /* Labels every node afresh in list order and indexes it, as after the list has been reordered. */
+    private void rebuild() {
+      clear();
+      long gap = Math.min(LABEL_GAP, LABEL_LIMIT / (size() + 1));
+      long label = gap;
+      for (Node curr = head.next; curr != tail; curr = curr.next, label += gap) {
+        IndexedNode node = (IndexedNode) curr;
+        node.label = label;
+        chain(node);
+      }
+    }
+
+    private void label(IndexedNode node) {
+      long lo = node.prev != head ? ((IndexedNode) node.prev).label : -1;
+      long hi = node.next != tail ? ((IndexedNode) node.next).label : LABEL_LIMIT;
+
+      /* Leaves room after the last node and before the first, where most nodes are added. */
+      if (hi == LABEL_LIMIT && lo != -1 && hi - lo > LABEL_GAP) {
+        node.label = lo + LABEL_GAP;
+      } else if (lo == -1 && hi != LABEL_LIMIT && hi >= LABEL_GAP) {
+        node.label = hi - LABEL_GAP;
+      } else if (hi - lo > 1) {
+        node.label = lo + ((hi - lo) >> 1);
+      } else {
+        relabel(node, lo != -1 ? lo : hi);
+      }
+    }
+
+    /* Spreads out the labels of the nodes around one that has none yet, whose neighbour has the anchor label. */
+    private void relabel(IndexedNode node, long anchor) {
+      IndexedNode from = node, to = node;
+      int nodes = 1;
+      double density = 1;
+      for (int bits = 1; ; bits++) {
+        density /= OVERFLOW;
+        long range = 1L << bits;
+        long base = anchor & -range;
+        while (from.prev != head && ((IndexedNode) from.prev).label >= base) {
+          from = (IndexedNode) from.prev;
+          nodes++;
+        }
+        while (to.next != tail && ((IndexedNode) to.next).label < base + range) {
+          to = (IndexedNode) to.next;
+          nodes++;
+        }
+
+        if (nodes < range * density || range == LABEL_LIMIT) {
+          long gap = range / nodes;
+          long label = base;
+          for (IndexedNode curr = from; ; curr = (IndexedNode) curr.next, label += gap) {
+            curr.label = label;
+            if (curr == to) {
+              return;
+            }
+          }
+        }
+      }
+    }
+
+    /* Links a labelled node into the chain of nodes holding an equal item, in the place given by its label. */
+    private void chain(IndexedNode node) {
+      int slot = slotOf(node.item);
+      IndexedNode first = table[slot];
+      if (first == null) {
+        insert(slot, node);
+      } else if (node.label < first.label) {
+        link(node, first);
+        table[slot] = node;
+      } else {
+        /* Searches from both ends of the chain at once, so that the search is short near either end. */
+        IndexedNode forwards = first.nextSame, backwards = first.prevSame;
+        while (forwards != first && forwards.label < node.label && backwards.label > node.label) {
+          forwards = forwards.nextSame;
+          backwards = backwards.prevSame;
+        }
+        link(node, backwards.label < node.label ? backwards.nextSame : forwards);
+      }
+    }
+
+    private void insert(int slot, IndexedNode node) {
+      node.prevSame = node;
+      node.nextSame = node;
+      table[slot] = node;
+      if (++count << 1 > table.length) {
+        resize(table.length << 1);
+      }
+    }
+
+    /* Links the node into a chain just before the given one, which is just after the last node if it is the first. */
+    private void link(IndexedNode node, IndexedNode next) {
+      node.nextSame = next;
+      node.prevSame = next.prevSame;
+      next.prevSame.nextSame = node;
+      next.prevSame = node;
+    }
+
+    private void remove(Node removed) {
+      IndexedNode node = (IndexedNode) removed;
+      int slot = slotOf(node.item);
+      if (node.nextSame == node) {
+        delete(slot);
+      } else {
+        node.prevSame.nextSame = node.nextSame;
+        node.nextSame.prevSame = node.prevSame;
+        if (table[slot] == node) {
+          table[slot] = node.nextSame;
+        }
+      }
+      node.prevSame = null;
+      node.nextSame = null;
+    }
+
+    /* Empties the slot, then shifts back any later node of the same probe run that may now sit in it. */
+    private void delete(int slot) {
+      int mask = table.length - 1;
+      table[slot] = null;
+      count--;
+      for (int next = (slot + 1) & mask; table[next] != null; next = (next + 1) & mask) {
+        int home = spread(table[next].item) & mask;
+        if (((next - home) & mask) >= ((next - slot) & mask)) {
+          table[slot] = table[next];
+          table[next] = null;
+          slot = next;
+        }
+      }
+    }
+
+    private void resize(int length) {
+      IndexedNode[] table = this.table;
+      this.table = (IndexedNode[]) new LinkedList.IndexedNode[length];
+      for (IndexedNode node : table) {
+        if (node != null) {
+          this.table[slotOf(node.item)] = node;
+        }
+      }
+    }
+  }
+
+  /* Splits off ever larger batches of items into arrays, since a chain of nodes cannot be split in the middle cheaply. */
+  private class NodeSpliterator implements Spliterator<E> {
+    private static final int BATCH_UNIT = 1 << 10;
+    private static final int MAX_BATCH = 1 << 25;
+
+    private final int expectedModCount;
+    private Node curr;
+    private int remaining;
+    private int batch;
+
+    private NodeSpliterator(Node curr, int remaining) {
+      this.expectedModCount = modCount;
+      this.curr = curr;
+      this.remaining = remaining;
+      this.batch = 0;
+    }
+
+    @Override
+    public int characteristics() {
+      return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.NONNULL;
+    }
+
+    @Override
+    public long estimateSize() {
+      return remaining;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super E> action) {
+      for (; remaining > 0; remaining--) {
+        checkModCount(expectedModCount);
+        E item = curr.item;
+        curr = curr.next;
+        action.accept(item);
+      }
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super E> action) {
+      checkModCount(expectedModCount);
+      if (remaining > 0) {
+        E item = curr.item;
+        curr = curr.next;
+        remaining--;
+        action.accept(item);
+        return true;
+      }
+      return false;
+    }
+
+    @Override
+    public Spliterator<E> trySplit() {
+      if (remaining <= 1) {
+        return null;
+      }
+
+      batch = Math.min(remaining, Math.min(batch + BATCH_UNIT, MAX_BATCH));
+      Object[] items = new Object[batch];
+      for (int i = 0; i < batch; i++) {
+        items[i] = curr.item;
+        curr = curr.next;
+      }
+      remaining -= batch;
+      return (Spliterator<E>) Spliterators.spliterator(items, Spliterator.ORDERED | Spliterator.NONNULL);
     }
   }
 }
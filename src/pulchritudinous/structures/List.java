@@ -1,7 +1,10 @@
 package pulchritudinous.structures;
 
-import java.util.function.BiFunction;
+import java.util.Comparator;
+import java.util.Spliterator;
+import java.util.function.Consumer;
 import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
 
 interface List<E> extends Iterable<E> {
 
@@ -9,22 +12,34 @@ interface List<E> extends Iterable<E> {
 
   void addAll(List<E> items);
 
+  void addAll(E[] items, int from, int to);
+
   void addFirst(E item);
 
   void addLast(E item);
 
+  JavaDequeView<E> asJavaDeque();
+
+  JavaListView<E> asJavaList();
+
   void clear();
 
   List<E> clone();
 
   boolean contains(E item);
 
+  int drainTo(Consumer<? super E> consumer, int max);
+
+  int drainTo(E[] items, int max);
+
   E first();
 
   E get(int index);
 
   int indexOf(E item);
 
+  void insertAll(List<E> items, int index);
+
   void insertAt(E item, int index);
 
   boolean isEmpty();
@@ -33,6 +48,8 @@ interface List<E> extends Iterable<E> {
 
   E poll();
 
+  Stream<E> parallelStream();
+
   List<E> pollMany(int n);
 
   boolean remove(E item);
@@ -41,13 +58,24 @@ interface List<E> extends Iterable<E> {
 
   void removeAt(int index);
 
+  void removeRange(int from, int to);
+
   void replaceAll(UnaryOperator<E> operator);
 
   E set(E item, int index);
 
   int size();
 
-  void sort(BiFunction<E, E, Integer> comparator);
+  void sort(Comparator<? super E> comparator);
+
+  @Override
+  Spliterator<E> spliterator();
+
+  Stream<E> stream();
+
+  List<E> subList(int from, int to);
 
   Object[] toArray();
+
+  <T> T[] toArray(T[] array);
 }
@@ -0,0 +1,36 @@
+package pulchritudinous.structures;
+
+/*
+ * Hears about the work the lists do internally, to explain where their time goes. A listener is
+ * installed for the whole JVM by naming its class, which needs a public no-argument constructor, in
+ * the pulchritudinous.structures.metrics system property. Without one, every hook is behind a
+ * constant false check that the JIT compiles away entirely.
+ */
+public interface ListMetrics {
+
+  String PROPERTY = "pulchritudinous.structures.metrics";
+
+  /* An ArrayList's backing array was replaced, copying the given number of items into the new one. */
+  default void resized(int fromLength, int toLength, int itemsCopied) {
+  }
+
+  /* Items were shifted along an ArrayList's backing array to open or close a gap. */
+  default void moved(int items) {
+  }
+
+  /* A LinkedList stepped across the given number of nodes to find an index. */
+  default void walked(int steps) {
+  }
+
+  /* A sort compared two items. */
+  default void compared() {
+  }
+
+  /* A sort built a list to hold items temporarily. */
+  default void allocatedTemporaryList() {
+  }
+
+  /* A list looked at the given number of items while searching for one. */
+  default void scanned(int items) {
+  }
+}
@@ -0,0 +1,332 @@
+package pulchritudinous.structures;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.function.LongUnaryOperator;
+import java.util.function.UnaryOperator;
+
+public class LongArrayList extends AbstractList<Long> {
+
+  private static final int INITIAL_LENGTH = 128;
+
+  private int firstIndex;
+  private int length;
+  private long[] contents;
+
+  public LongArrayList() {
+    super();
+    this.resetToEmptyState();
+  }
+
+  @Override
+  protected Long findByIndex(int index) {
+    assert (isValidIndex(index));
+    return getAtIndex(index);
+  }
+
+  @Override
+  protected Long findByItem(Long item) {
+    return item != null && findIndexByItem(item) != NULL_INDEX ? item : null;
+  }
+
+  private int findIndexByItem(long item) {
+    for (int i = 0; i < size(); i++) {
+      if (getAtIndex(i) == item) {
+        return i;
+      }
+    }
+    return NULL_INDEX;
+  }
+
+  private void copyOut(long[] target, int index, int count) {
+    int start = offset(index);
+    int firstCount = Math.min(count, length - start);
+    System.arraycopy(contents, start, target, 0, firstCount);
+    System.arraycopy(contents, 0, target, firstCount, count - firstCount);
+  }
+
+  private void expand() {
+    int length = this.length << 1;
+    long[] contents = new long[length];
+    copyOut(contents, 0, size());
+
+    this.firstIndex = 0;
+    this.length = length;
+    this.contents = contents;
+  }
+
+  private long getAtIndex(int index) {
+    return contents[offset(index)];
+  }
+
+  private void move(int from, int to, int count) {
+    /* Moves items one contiguous segment at a time, copying away from the direction of travel. */
+    if (to < from) {
+      while (count > 0) {
+        int source = offset(from);
+        int target = offset(to);
+        int segment = Math.min(count, Math.min(length - source, length - target));
+        System.arraycopy(contents, source, contents, target, segment);
+        from += segment;
+        to += segment;
+        count -= segment;
+      }
+    } else if (to > from) {
+      while (count > 0) {
+        int sourceEnd = offset(from + count - 1) + 1;
+        int targetEnd = offset(to + count - 1) + 1;
+        int segment = Math.min(count, Math.min(sourceEnd, targetEnd));
+        System.arraycopy(contents, sourceEnd - segment, contents, targetEnd - segment, segment);
+        count -= segment;
+      }
+    }
+  }
+
+  @Override
+  protected LongArrayList newEmptyList() {
+    return new LongArrayList();
+  }
+
+  private void normalize() {
+    /* Rotates the ring so that the first item sits at the start of contents. */
+    if (firstIndex + size() > length) {
+      reverse(0, length);
+      reverse(0, length - firstIndex);
+      reverse(length - firstIndex, length);
+      firstIndex = 0;
+    }
+  }
+
+  private int offset(int index) {
+    return (firstIndex + index) & (length - 1);
+  }
+
+  @Override
+  protected void resetToEmptyState() {
+    super.resetToEmptyState();
+    firstIndex = 0;
+    length = INITIAL_LENGTH;
+    contents = new long[length];
+  }
+
+  private void reverse(int start, int end) {
+    for (int i = start, j = end - 1; i < j; i++, j--) {
+      long item = contents[i];
+      contents[i] = contents[j];
+      contents[j] = item;
+    }
+  }
+
+  private void shiftDownAndReplace(int start, int end, long item) {
+    move(start + 1, start, end - start);
+    setAtIndex(item, end);
+  }
+
+  private void shiftUpAndReplace(int start, int end, long item) {
+    move(start, start + 1, end - start);
+    setAtIndex(item, start);
+  }
+
+  private void setAtIndex(long item, int index) {
+    contents[offset(index)] = item;
+  }
+
+  public void addLong(long item) {
+    this.addLastLong(item);
+  }
+
+  public void addFirstLong(long item) {
+    this.insertLongAt(item, 0);
+  }
+
+  public void addLastLong(long item) {
+    this.insertLongAt(item, size());
+  }
+
+  @Override
+  public LongArrayList clone() {
+    LongArrayList clone = newEmptyList();
+    clone.length = length;
+    clone.contents = new long[length];
+    copyOut(clone.contents, 0, size());
+    clone.increaseSizeBy(size());
+    return clone;
+  }
+
+  public boolean contains(long item) {
+    return findIndexByItem(item) != NULL_INDEX;
+  }
+
+  public long firstLong() {
+    return this.getLong(0);
+  }
+
+  public long getLong(int index) {
+    if (!isValidIndex(index)) {
+      throw new IndexOutOfBoundsException("Index " + index + " is out of bounds for LongArrayList.");
+    }
+    return getAtIndex(index);
+  }
+
+  @Override
+  public int indexOf(Long item) {
+    return item != null ? indexOf((long) item) : NULL_INDEX;
+  }
+
+  public int indexOf(long item) {
+    return findIndexByItem(item);
+  }
+
+  @Override
+  public void insertAt(Long item, int index) {
+    if (item == null) {
+      throw new NullPointerException("Cannot insert null into LongArrayList.");
+    }
+    this.insertLongAt(item, index);
+  }
+
+  public void insertLongAt(long item, int index) {
+    if (isValidInclusiveIndex(index)) {
+      if (size() == length) {
+        this.expand();
+      }
+
+      int midpoint = (size() >> 1);
+      if (index <= midpoint) {
+        shiftDownAndReplace(-1, index - 1, item);
+        firstIndex = offset(-1);
+      } else {
+        shiftUpAndReplace(index, size(), item);
+      }
+      incrementSize();
+    }
+  }
+
+  @Override
+  public PrimitiveIterator.OfLong iterator() {
+    return new PrimitiveIterator.OfLong() {
+      private int index = 0;
+
+      @Override
+      public boolean hasNext() {
+        return isValidIndex(index);
+      }
+
+      @Override
+      public long nextLong() {
+        if (!hasNext()) {
+          throw new NoSuchElementException();
+        }
+        return getAtIndex(index++);
+      }
+    };
+  }
+
+  public long lastLong() {
+    return this.getLong(size() - 1);
+  }
+
+  public long pollLong() {
+    if (isEmpty()) {
+      throw new NoSuchElementException("Cannot poll an empty LongArrayList.");
+    }
+    long first = getAtIndex(0);
+    removeAt(0);
+    return first;
+  }
+
+  @Override
+  public boolean remove(Long item) {
+    return item != null && removeLong(item);
+  }
+
+  @Override
+  public void removeAll(Long item) {
+    if (item != null) {
+      removeAllLong(item);
+    }
+  }
+
+  public void removeAllLong(long item) {
+    int size = size();
+
+    for (int i = 0, j = 0; i < size; i++) {
+      long curr = getAtIndex(i);
+      if (curr != item) {
+        setAtIndex(curr, j++);
+      } else {
+        decrementSize();
+      }
+    }
+  }
+
+  @Override
+  public void removeAt(int index) {
+    if (isValidIndex(index)) {
+      int midpoint = (size() >> 1);
+      decrementSize();
+      if (index <= midpoint) {
+        shiftUpAndReplace(0, index, 0);
+        firstIndex = offset(1);
+      } else {
+        shiftDownAndReplace(index, size(), 0);
+      }
+    }
+  }
+
+  public boolean removeLong(long item) {
+    int index = findIndexByItem(item);
+    if (!isValidIndex(index)) {
+      return false;
+    }
+    removeAt(index);
+    return true;
+  }
+
+  @Override
+  public void replaceAll(UnaryOperator<Long> operator) {
+    for (int i = 0; i < size(); i++) {
+      Long item = operator.apply(getAtIndex(i));
+      if (item == null) {
+        throw new NullPointerException("Cannot insert null into LongArrayList.");
+      }
+      setAtIndex(item, i);
+    }
+  }
+
+  public void replaceAllLong(LongUnaryOperator operator) {
+    for (int i = 0; i < size(); i++) {
+      setAtIndex(operator.applyAsLong(getAtIndex(i)), i);
+    }
+  }
+
+  @Override
+  public Long set(Long item, int index) {
+    if (!isValidIndex(index)) {
+      return null;
+    }
+    if (item == null) {
+      throw new NullPointerException("Cannot insert null into LongArrayList.");
+    }
+    return setLong(item, index);
+  }
+
+  public long setLong(long item, int index) {
+    long prev = getLong(index);
+    setAtIndex(item, index);
+    return prev;
+  }
+
+  /* Sorts the items into ascending order without boxing. */
+  public void sort() {
+    normalize();
+    Arrays.sort(contents, firstIndex, firstIndex + size());
+  }
+
+  public long[] toLongArray() {
+    long[] array = new long[size()];
+    copyOut(array, 0, size());
+    return array;
+  }
+}
@@ -0,0 +1,137 @@
+package pulchritudinous.structures;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/*
+ * A list whose ring of fixed-width records lives in a memory-mapped file. The file starts with a small
+ * header recording the shape of the ring, followed by the records themselves, mapped in segments of
+ * at most a gigabyte each so that the list can grow well beyond two gigabytes. Since the header is
+ * kept up to date as the list changes, reopening the file maps it again without reading a single
+ * record. Changes reach the disk whenever the operating system writes the pages back, or straight
+ * away on force().
+ */
+public class MappedArrayList<E> extends AbstractRecordList<E> implements AutoCloseable {
+
+  private static final int MAGIC = 0x50534d31;
+  private static final int HEADER_BYTES = 5 * Integer.BYTES;
+  private static final int WIDTH_OFFSET = Integer.BYTES;
+  private static final int LENGTH_OFFSET = 2 * Integer.BYTES;
+  private static final int FIRST_INDEX_OFFSET = 3 * Integer.BYTES;
+  private static final int SIZE_OFFSET = 4 * Integer.BYTES;
+
+  private static final int INITIAL_LENGTH = 128;
+
+  private final FileChannel channel;
+  private final int width;
+  private final MappedByteBuffer header;
+
+  private MappedArrayList(FileChannel channel, Codec<E> codec) throws IOException {
+    super(codec);
+    this.channel = channel;
+    this.width = codec.width();
+    this.header = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_BYTES);
+  }
+
+  /* Opens the list stored in the given file, creating the file if it does not exist yet. */
+  public static <E> MappedArrayList<E> open(Path path, Codec<E> codec) throws IOException {
+    checkWidth(codec);
+
+    FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+    try {
+      boolean isNew = channel.size() == 0;
+      if (!isNew && channel.size() < HEADER_BYTES) {
+        throw new IOException("Not a mapped list.");
+      }
+
+      MappedArrayList<E> list = new MappedArrayList<>(channel, codec);
+      if (isNew) {
+        list.header.putInt(0, MAGIC);
+        list.header.putInt(WIDTH_OFFSET, codec.width());
+        list.restoreRing(INITIAL_LENGTH, 0, 0);
+        list.writeHeader();
+      } else {
+        list.readHeader();
+      }
+      return list;
+    } catch (UncheckedIOException e) {
+      channel.close();
+      throw e.getCause();
+    } catch (IOException | RuntimeException e) {
+      channel.close();
+      throw e;
+    }
+  }
+
+  /* Maps the ring afresh at its new length. Records stay where they are in the file, and so at the same slots. */
+  @Override
+  protected ByteBuffer[] allocate(ByteBuffer[] segments, int length, int segmentShift, int width) {
+    int segmentLength = Math.min(length, 1 << segmentShift);
+    long segmentBytes = (long) segmentLength * width;
+    MappedByteBuffer[] mapped = new MappedByteBuffer[length / segmentLength];
+    try {
+      for (int i = 0; i < mapped.length; i++) {
+        mapped[i] = channel.map(FileChannel.MapMode.READ_WRITE, HEADER_BYTES + i * segmentBytes, segmentBytes);
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return mapped;
+  }
+
+  private void readHeader() throws IOException {
+    int length = header.getInt(LENGTH_OFFSET);
+    int firstIndex = header.getInt(FIRST_INDEX_OFFSET);
+    int size = header.getInt(SIZE_OFFSET);
+    if (header.getInt(0) != MAGIC) {
+      throw new IOException("Not a mapped list.");
+    } else if (header.getInt(WIDTH_OFFSET) != width) {
+      throw new IOException("Mapped list was written with a codec of width " + header.getInt(WIDTH_OFFSET) + ".");
+    } else if (Integer.bitCount(length) != 1 || firstIndex < 0 || firstIndex >= length || size < 0 || size > length
+        || channel.size() < HEADER_BYTES + (long) length * width) {
+      throw new IOException("Mapped list has a corrupt header.");
+    }
+
+    restoreRing(length, firstIndex, size);
+  }
+
+  /* Keeps the header in step with the ring. The file itself keeps its length, which is never given back. */
+  @Override
+  protected void shapeChanged() {
+    writeHeader();
+  }
+
+  /* Must never run once the list is closed, since the header has been unmapped by then. */
+  private void writeHeader() {
+    assert (!isClosed());
+    header.putInt(LENGTH_OFFSET, capacity());
+    header.putInt(FIRST_INDEX_OFFSET, firstIndex());
+    header.putInt(SIZE_OFFSET, size());
+  }
+
+  /* Writes any changes out to the disk and unmaps the file, after which the list is empty and rejects new items. */
+  @Override
+  public void close() throws IOException {
+    if (!isClosed()) {
+      force();
+      releaseRing();
+      DirectBuffers.free(header);
+      channel.close();
+    }
+  }
+
+  /* Blocks until every change made so far, including the header, has been written to the disk. */
+  public void force() {
+    if (!isClosed()) {
+      for (ByteBuffer segment : segments()) {
+        ((MappedByteBuffer) segment).force();
+      }
+      header.force();
+    }
+  }
+}
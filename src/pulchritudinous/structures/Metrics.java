@@ -0,0 +1,77 @@
+package pulchritudinous.structures;
+
+import java.util.Comparator;
+
+/*
+ * Holds the installed ListMetrics in constants, so that once the hooks below are inlined, their
+ * checks fold to false and they vanish from compiled code when nothing is installed.
+ */
+final class Metrics {
+
+  static final ListMetrics LISTENER = load();
+  static final boolean IS_ENABLED = LISTENER != null;
+
+  private Metrics() {
+  }
+
+  private static ListMetrics load() {
+    String name = System.getProperty(ListMetrics.PROPERTY);
+    if (name == null || name.isEmpty()) {
+      return null;
+    }
+
+    try {
+      return (ListMetrics) Class.forName(name).getDeclaredConstructor().newInstance();
+    } catch (ReflectiveOperationException | ClassCastException e) {
+      throw new IllegalArgumentException("Cannot create list metrics from " + name + ".", e);
+    }
+  }
+
+  static void resized(int fromLength, int toLength, int itemsCopied) {
+    if (IS_ENABLED) {
+      LISTENER.resized(fromLength, toLength, itemsCopied);
+    }
+  }
+
+  static void moved(int items) {
+    if (IS_ENABLED) {
+      LISTENER.moved(items);
+    }
+  }
+
+  static void walked(int steps) {
+    if (IS_ENABLED) {
+      LISTENER.walked(steps);
+    }
+  }
+
+  static void compared() {
+    if (IS_ENABLED) {
+      LISTENER.compared();
+    }
+  }
+
+  static void allocatedTemporaryList() {
+    if (IS_ENABLED) {
+      LISTENER.allocatedTemporaryList();
+    }
+  }
+
+  static void scanned(int items) {
+    if (IS_ENABLED) {
+      LISTENER.scanned(items);
+    }
+  }
+
+  /* Reports every comparison the given comparator makes, if metrics are enabled. */
+  static <E> Comparator<E> counting(Comparator<E> comparator) {
+    if (!IS_ENABLED) {
+      return comparator;
+    }
+
+    return (a, b) -> {
+      LISTENER.compared();
+      return comparator.compare(a, b);
+    };
+  }
+}
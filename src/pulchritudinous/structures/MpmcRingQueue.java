@@ -0,0 +1,125 @@
+package pulchritudinous.structures;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/*
+ * A bounded queue for any number of producers and consumers, built on the same power-of-two ring
+ * as ArrayList. Every slot carries a sequence number that says whether it is ready to be written
+ * to or read from, and producers and consumers claim slots by compare-and-swapping the tail and
+ * head sequences, so no thread ever holds a lock.
+ */
+public class MpmcRingQueue<E> extends RingQueueSequences implements ConcurrentQueue<E> {
+
+  private final int length;
+  private final Object[] contents;
+  private final AtomicLongArray sequences;
+
+  public MpmcRingQueue(int capacity) {
+    if (capacity < 1) {
+      throw new IllegalArgumentException("Cannot create an MpmcRingQueue with capacity less than 1.");
+    }
+
+    this.length = CapacityPolicy.lengthFor(capacity);
+    this.contents = new Object[length];
+    this.sequences = new AtomicLongArray(length);
+    for (int i = 0; i < length; i++) {
+      sequences.set(i, i);
+    }
+  }
+
+  private int offset(long sequence) {
+    return (int) sequence & (length - 1);
+  }
+
+  @Override
+  public int capacity() {
+    return length;
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return size() == 0;
+  }
+
+  @Override
+  public boolean offer(E item) {
+    if (item == null) {
+      throw new NullPointerException("Cannot insert null into MpmcRingQueue.");
+    }
+
+    long tail = tail();
+    while (true) {
+      int index = offset(tail);
+      long difference = sequences.get(index) - tail;
+      if (difference == 0) {
+        if (casTail(tail, tail + 1)) {
+          contents[index] = item;
+          sequences.lazySet(index, tail + 1);
+          return true;
+        }
+      } else if (difference < 0) {
+        /* The slot still holds an item from the previous lap, so the queue is full. */
+        return false;
+      }
+      tail = tail();
+    }
+  }
+
+  @Override
+  public E poll() {
+    long head = head();
+    while (true) {
+      int index = offset(head);
+      long difference = sequences.get(index) - (head + 1);
+      if (difference == 0) {
+        if (casHead(head, head + 1)) {
+          E item = (E) contents[index];
+          contents[index] = null;
+          sequences.lazySet(index, head + length);
+          return item;
+        }
+      } else if (difference < 0) {
+        /* The slot has not been written to on this lap, so the queue is empty. */
+        return null;
+      }
+      head = head();
+    }
+  }
+
+  /* Claims as many ready items as it can with a single compare-and-swap, and copies them into the array. */
+  @Override
+  public int pollMany(E[] items, int max) {
+    max = Math.min(max, items.length);
+    long head = head();
+    while (max > 0) {
+      int n = 0;
+      while (n < max && sequences.get(offset(head + n)) == head + n + 1) {
+        n++;
+      }
+
+      if (n == 0) {
+        if (sequences.get(offset(head)) - (head + 1) < 0) {
+          return 0;
+        }
+      } else if (casHead(head, head + n)) {
+        for (int i = 0; i < n; i++) {
+          int index = offset(head + i);
+          items[i] = (E) contents[index];
+          contents[index] = null;
+          sequences.lazySet(index, head + i + length);
+        }
+        return n;
+      }
+      head = head();
+    }
+    return 0;
+  }
+
+  @Override
+  public int size() {
+    /* Reads the head first, so that the tail can only be ahead of it. */
+    long head = head();
+    long tail = tail();
+    return (int) Math.max(0, Math.min(length, tail - head));
+  }
+}
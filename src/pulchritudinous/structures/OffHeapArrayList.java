@@ -0,0 +1,49 @@
+package pulchritudinous.structures;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/*
+ * An ArrayList whose items live in native memory rather than on the heap. Items are encoded into
+ * fixed-width records by a codec, and the ring of records is split across direct buffers of at most
+ * a gigabyte each, so that the list can grow well beyond the two gigabyte limit of a single buffer.
+ * The native memory is released by close().
+ */
+public class OffHeapArrayList<E> extends AbstractRecordList<E> implements AutoCloseable {
+
+  private static final int INITIAL_LENGTH = 128;
+
+  public OffHeapArrayList(Codec<E> codec) {
+    super(codec);
+    this.resetToEmptyState();
+  }
+
+  /* Allocates fresh direct buffers and copies each old segment into the new one covering the same slots. */
+  @Override
+  protected ByteBuffer[] allocate(ByteBuffer[] segments, int length, int segmentShift, int width) {
+    int segmentLength = Math.min(length, 1 << segmentShift);
+    ByteBuffer[] allocated = new ByteBuffer[length / segmentLength];
+    for (int i = 0; i < allocated.length; i++) {
+      allocated[i] = ByteBuffer.allocateDirect(segmentLength * width).order(ByteOrder.nativeOrder());
+    }
+    for (int i = 0; i < segments.length; i++) {
+      DirectBuffers.copy(segments[i], 0, allocated[i], 0, segments[i].capacity());
+    }
+    return allocated;
+  }
+
+  /* Gives the native memory back down to the initial ring, rather than keeping the longest ring so far. */
+  @Override
+  protected void resetToEmptyState() {
+    super.resetToEmptyState();
+    restoreRing(INITIAL_LENGTH, 0, 0);
+  }
+
+  /* Releases the native memory behind the list, after which the list is empty and rejects new items. */
+  @Override
+  public void close() {
+    if (!isClosed()) {
+      releaseRing();
+    }
+  }
+}
@@ -0,0 +1,164 @@
+package pulchritudinous.structures;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/*
+ * A stable merge sort over a range of an array that sorts chunks and merges them on a fork-join
+ * pool. Chunks are sorted with Arrays.sort, and merges are split around a pivot found by binary
+ * search, so that they run in parallel as well. Sorted runs alternate between the array and a
+ * scratch buffer from one level to the next, so that nothing is copied back after each merge.
+ */
+final class ParallelMergeSort<E> {
+
+  static final int THRESHOLD = 1 << 13;
+
+  private final E[] items;
+  private final Object[] buffer;
+  private final int offset;
+  private final int granularity;
+  private final Comparator<? super E> comparator;
+
+  private ParallelMergeSort(E[] items, int from, int to, Comparator<? super E> comparator, int parallelism) {
+    this.items = items;
+    this.buffer = new Object[to - from];
+    this.offset = from;
+    this.granularity = Math.max(THRESHOLD, (to - from) / (parallelism << 2));
+    this.comparator = comparator;
+  }
+
+  static <E> void sort(E[] items, int from, int to, Comparator<? super E> comparator, ForkJoinPool pool) {
+    ParallelMergeSort<E> sort = new ParallelMergeSort<>(items, from, to, comparator, pool.getParallelism());
+    pool.invoke(sort.new SortTask(from, to, false));
+  }
+
+  private Object read(boolean fromBuffer, int index) {
+    return fromBuffer ? buffer[index - offset] : items[index];
+  }
+
+  private void write(boolean intoBuffer, int index, Object item) {
+    if (intoBuffer) {
+      buffer[index - offset] = item;
+    } else {
+      items[index] = (E) item;
+    }
+  }
+
+  private int compare(Object a, Object b) {
+    return comparator.compare((E) a, (E) b);
+  }
+
+  /* Returns the first index in [from, to) whose item sorts after the key, or equal to it if inclusive. */
+  private int search(boolean fromBuffer, int from, int to, Object key, boolean isInclusive) {
+    while (from < to) {
+      int mid = (from + to) >>> 1;
+      int comparison = compare(read(fromBuffer, mid), key);
+      if (comparison < 0 || (comparison == 0 && !isInclusive)) {
+        from = mid + 1;
+      } else {
+        to = mid;
+      }
+    }
+    return from;
+  }
+
+  private class SortTask extends RecursiveAction {
+    private static final long serialVersionUID = 1L;
+
+    private final int from, to;
+    private final boolean intoBuffer;
+
+    private SortTask(int from, int to, boolean intoBuffer) {
+      this.from = from;
+      this.to = to;
+      this.intoBuffer = intoBuffer;
+    }
+
+    @Override
+    protected void compute() {
+      if (to - from <= granularity) {
+        Arrays.sort(items, from, to, comparator);
+        if (intoBuffer) {
+          System.arraycopy(items, from, buffer, from - offset, to - from);
+        }
+        return;
+      }
+
+      /* Sorts each half into the other array, so that merging them lands the result where it belongs. */
+      int mid = (from + to) >>> 1;
+      invokeAll(new SortTask(from, mid, !intoBuffer), new SortTask(mid, to, !intoBuffer));
+      new MergeTask(!intoBuffer, from, mid, mid, to, from).invoke();
+    }
+  }
+
+  private class MergeTask extends RecursiveAction {
+    private static final long serialVersionUID = 1L;
+
+    private final boolean fromBuffer;
+    private final int leftFrom, leftTo, rightFrom, rightTo, target;
+
+    private MergeTask(boolean fromBuffer, int leftFrom, int leftTo, int rightFrom, int rightTo, int target) {
+      this.fromBuffer = fromBuffer;
+      this.leftFrom = leftFrom;
+      this.leftTo = leftTo;
+      this.rightFrom = rightFrom;
+      this.rightTo = rightTo;
+      this.target = target;
+    }
+
+    @Override
+    protected void compute() {
+      int leftSize = leftTo - leftFrom;
+      int rightSize = rightTo - rightFrom;
+      if (leftSize + rightSize <= granularity) {
+        merge();
+        return;
+      }
+
+      /*
+       * Splits the larger run in half and the smaller run around the pivot, keeping items from the
+       * left run ahead of equal items from the right run.
+       */
+      int leftMid, rightMid;
+      if (leftSize >= rightSize) {
+        leftMid = (leftFrom + leftTo) >>> 1;
+        rightMid = search(fromBuffer, rightFrom, rightTo, read(fromBuffer, leftMid), true);
+      } else {
+        rightMid = (rightFrom + rightTo) >>> 1;
+        leftMid = search(fromBuffer, leftFrom, leftTo, read(fromBuffer, rightMid), false);
+      }
+
+      int targetMid = target + (leftMid - leftFrom) + (rightMid - rightFrom);
+      invokeAll(
+          new MergeTask(fromBuffer, leftFrom, leftMid, rightFrom, rightMid, target),
+          new MergeTask(fromBuffer, leftMid, leftTo, rightMid, rightTo, targetMid));
+    }
+
+    private void merge() {
+      int left = leftFrom;
+      int right = rightFrom;
+      int index = target;
+
+      while (left < leftTo && right < rightTo) {
+        Object leftItem = read(fromBuffer, left);
+        Object rightItem = read(fromBuffer, right);
+        if (compare(leftItem, rightItem) <= 0) {
+          write(!fromBuffer, index++, leftItem);
+          left++;
+        } else {
+          write(!fromBuffer, index++, rightItem);
+          right++;
+        }
+      }
+
+      while (left < leftTo) {
+        write(!fromBuffer, index++, read(fromBuffer, left++));
+      }
+      while (right < rightTo) {
+        write(!fromBuffer, index++, read(fromBuffer, right++));
+      }
+    }
+  }
+}
@@ -0,0 +1,382 @@
+package pulchritudinous.structures;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.UnaryOperator;
+
+/*
+ * A 32-way radix tree of items with the last, partly filled leaf kept aside as a tail, so that
+ * clones share every node and clone() takes constant time. Each vector owns the nodes it created
+ * since it was last cloned and changes those in place, much like a transient builder; any other
+ * node is copied, along with its path from the root, the first time it is written to.
+ */
+public class PersistentVector<E> extends AbstractList<E> {
+
+  private static final int BITS = 5;
+  private static final int WIDTH = 1 << BITS;
+  private static final int MASK = WIDTH - 1;
+
+  private Object owner;
+  private Node root;
+  private Node tail;
+  private int shift;
+
+  /* Items live at positions [origin, count) of the tree and tail; polling only moves the origin. */
+  private int origin;
+  private int count;
+
+  public PersistentVector() {
+    super();
+    this.resetToEmptyState();
+  }
+
+  private Node editable(Node node) {
+    return node.owner == owner ? node : new Node(owner, node.array.clone());
+  }
+
+  @Override
+  protected E findByIndex(int index) {
+    assert (isValidIndex(index));
+    int position = origin + index;
+    return (E) leafFor(position).array[position & MASK];
+  }
+
+  @Override
+  protected E findByItem(E item) {
+    int index = indexOf(item);
+    return index != NULL_INDEX ? findByIndex(index) : null;
+  }
+
+  private Node leafFor(int position) {
+    if (position >= tailOffset()) {
+      return tail;
+    }
+
+    Node node = root;
+    for (int level = shift; level > 0; level -= BITS) {
+      node = (Node) node.array[(position >>> level) & MASK];
+    }
+    return node;
+  }
+
+  private Node newPath(int level, Node node) {
+    if (level == 0) {
+      return node;
+    }
+
+    Node path = new Node(owner);
+    path.array[0] = newPath(level - BITS, node);
+    return path;
+  }
+
+  @Override
+  protected PersistentVector<E> newEmptyList() {
+    return new PersistentVector<>();
+  }
+
+  private void pop() {
+    if (count - origin == 1) {
+      resetToEmptyState();
+      return;
+    }
+
+    if (count - tailOffset() > 1) {
+      tail = editable(tail);
+      tail.array[(count - 1) & MASK] = null;
+    } else {
+      /* The tail is about to be emptied, so the last leaf of the tree becomes the new tail. */
+      Node leaf = leafFor(count - 2);
+      Node root = popTail(shift, this.root);
+      if (root == null) {
+        root = new Node(owner);
+      } else if (shift > BITS && root.array[1] == null) {
+        root = (Node) root.array[0];
+        shift -= BITS;
+      }
+      this.root = root;
+      this.tail = leaf;
+    }
+    count--;
+    decrementSize();
+  }
+
+  private Node popTail(int level, Node node) {
+    int subIndex = ((count - 2) >>> level) & MASK;
+    if (level > BITS) {
+      Node child = popTail(level - BITS, (Node) node.array[subIndex]);
+      if (child == null && subIndex == 0) {
+        return null;
+      }
+      node = editable(node);
+      node.array[subIndex] = child;
+      return node;
+    } else if (subIndex == 0) {
+      return null;
+    } else {
+      node = editable(node);
+      node.array[subIndex] = null;
+      return node;
+    }
+  }
+
+  private void push(Object item) {
+    if (count - tailOffset() < WIDTH) {
+      tail = editable(tail);
+      tail.array[count & MASK] = item;
+    } else {
+      /* The tail is full, so it moves into the tree, adding a level on top if the tree is full too. */
+      if ((count >>> BITS) > (1 << shift)) {
+        Node root = new Node(owner);
+        root.array[0] = this.root;
+        root.array[1] = newPath(shift, tail);
+        this.root = root;
+        shift += BITS;
+      } else {
+        root = pushTail(shift, root, tail);
+      }
+      tail = new Node(owner);
+      tail.array[0] = item;
+    }
+    count++;
+    incrementSize();
+  }
+
+  private Node pushTail(int level, Node node, Node leaf) {
+    node = editable(node);
+    int subIndex = ((count - 1) >>> level) & MASK;
+    if (level == BITS) {
+      node.array[subIndex] = leaf;
+    } else {
+      Node child = (Node) node.array[subIndex];
+      node.array[subIndex] = child != null ? pushTail(level - BITS, child, leaf) : newPath(level - BITS, leaf);
+    }
+    return node;
+  }
+
+  private void rebuild(Object[] items) {
+    resetToEmptyState();
+    for (Object item : items) {
+      push(item);
+    }
+  }
+
+  @Override
+  protected void resetToEmptyState() {
+    super.resetToEmptyState();
+    owner = new Object();
+    root = new Node(owner);
+    tail = new Node(owner);
+    shift = BITS;
+    origin = 0;
+    count = 0;
+  }
+
+  private Node setAt(int level, Node node, int position, Object item) {
+    node = editable(node);
+    if (level == 0) {
+      node.array[position & MASK] = item;
+    } else {
+      int subIndex = (position >>> level) & MASK;
+      node.array[subIndex] = setAt(level - BITS, (Node) node.array[subIndex], position, item);
+    }
+    return node;
+  }
+
+  private void setAtIndex(Object item, int index) {
+    int position = origin + index;
+    if (position >= tailOffset()) {
+      tail = editable(tail);
+      tail.array[position & MASK] = item;
+    } else {
+      root = setAt(shift, root, position, item);
+    }
+  }
+
+  private Object[] suffix(int index) {
+    Object[] items = new Object[size() - index];
+    for (int i = 0; i < items.length; i++) {
+      items[i] = findByIndex(index + i);
+    }
+    return items;
+  }
+
+  private int tailOffset() {
+    return count < WIDTH ? 0 : ((count - 1) >>> BITS) << BITS;
+  }
+
+  private void truncate(int size) {
+    while (size() > size) {
+      pop();
+    }
+  }
+
+  /* Shares every node with the clone, after which neither vector may change them in place. */
+  @Override
+  public PersistentVector<E> clone() {
+    PersistentVector<E> clone = newEmptyList();
+    clone.root = root;
+    clone.tail = tail;
+    clone.shift = shift;
+    clone.origin = origin;
+    clone.count = count;
+    clone.increaseSizeBy(size());
+    owner = new Object();
+    return clone;
+  }
+
+  @Override
+  public void insertAt(E item, int index) {
+    if (item == null) {
+      throw new NullPointerException("Cannot insert null into PersistentVector.");
+    }
+
+    if (isValidInclusiveIndex(index)) {
+      if (index == size()) {
+        push(item);
+      } else if (index == 0 && origin > 0) {
+        origin--;
+        incrementSize();
+        setAtIndex(item, 0);
+      } else {
+        /* Inserting anywhere else rebuilds the vector from the index onwards. */
+        Object[] suffix = suffix(index);
+        truncate(index);
+        push(item);
+        for (Object curr : suffix) {
+          push(curr);
+        }
+      }
+    }
+  }
+
+  @Override
+  public Iterator<E> iterator() {
+    return new Iterator<E>() {
+      private int index = 0;
+      private Object[] leaf;
+
+      @Override
+      public boolean hasNext() {
+        return isValidIndex(index);
+      }
+
+      @Override
+      public E next() {
+        if (!hasNext()) {
+          throw new NoSuchElementException();
+        }
+
+        /* Looks up each leaf once, rather than walking the tree for every item. */
+        int position = origin + index++;
+        if (leaf == null || (position & MASK) == 0) {
+          leaf = leafFor(position).array;
+        }
+        return (E) leaf[position & MASK];
+      }
+    };
+  }
+
+  @Override
+  public boolean remove(E item) {
+    int index = indexOf(item);
+    if (index == NULL_INDEX) {
+      return false;
+    }
+    removeAt(index);
+    return true;
+  }
+
+  @Override
+  public void removeAll(E item) {
+    Object[] items = toArray();
+    int size = 0;
+    for (Object curr : items) {
+      if (!curr.equals(item)) {
+        items[size++] = curr;
+      }
+    }
+
+    if (size < items.length) {
+      rebuild(Arrays.copyOf(items, size));
+    }
+  }
+
+  @Override
+  public void removeAt(int index) {
+    if (!isValidIndex(index)) {
+      return;
+    }
+
+    if (index == size() - 1) {
+      pop();
+    } else if (index == 0) {
+      origin++;
+      decrementSize();
+      /* Drops the polled positions once they outnumber the items, which keeps polling amortised O(1). */
+      if (origin >= WIDTH && origin >= size()) {
+        rebuild(toArray());
+      }
+    } else {
+      Object[] suffix = suffix(index + 1);
+      truncate(index);
+      for (Object curr : suffix) {
+        push(curr);
+      }
+    }
+  }
+
+  @Override
+  public void replaceAll(UnaryOperator<E> operator) {
+    for (int i = 0; i < size(); i++) {
+      setAtIndex(operator.apply(findByIndex(i)), i);
+    }
+  }
+
+  @Override
+  public E set(E item, int index) {
+    if (!isValidIndex(index)) {
+      return null;
+    }
+
+    E prev = findByIndex(index);
+    setAtIndex(item, index);
+    return prev;
+  }
+
+  @Override
+  public void sort(Comparator<? super E> comparator) {
+    Object[] items = toArray();
+    Arrays.sort((E[]) items, comparator);
+    rebuild(items);
+  }
+
+  @Override
+  public Object[] toArray() {
+    /* Copies a leaf at a time. */
+    Object[] array = new Object[size()];
+    int index = 0;
+    while (index < array.length) {
+      int position = origin + index;
+      int count = Math.min(WIDTH - (position & MASK), array.length - index);
+      System.arraycopy(leafFor(position).array, position & MASK, array, index, count);
+      index += count;
+    }
+    return array;
+  }
+
+  private static final class Node {
+    private final Object owner;
+    private final Object[] array;
+
+    private Node(Object owner) {
+      this(owner, new Object[WIDTH]);
+    }
+
+    private Node(Object owner, Object[] array) {
+      this.owner = owner;
+      this.array = array;
+    }
+  }
+}
@@ -0,0 +1,65 @@
+package pulchritudinous.structures;
+
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+
+/*
+ * The head and tail sequences of a ring queue, each on a cache line of its own so that producers
+ * and consumers do not keep invalidating each other's caches. The JVM lays out the fields of a
+ * superclass before those of its subclasses, so the padding is spread across a chain of classes
+ * rather than relying on the order of fields within one.
+ */
+abstract class RingQueueSequences extends RingQueueHead {
+  long p20, p21, p22, p23, p24, p25, p26, p27;
+}
+
+abstract class RingQueuePadding {
+  long p00, p01, p02, p03, p04, p05, p06, p07;
+}
+
+abstract class RingQueueTail extends RingQueuePadding {
+  private static final AtomicLongFieldUpdater<RingQueueTail> TAIL =
+      AtomicLongFieldUpdater.newUpdater(RingQueueTail.class, "tail");
+
+  private volatile long tail;
+
+  /* The last head seen by the producer of a single-producer queue, which saves re-reading it on every offer. */
+  long headCache;
+
+  long tail() {
+    return tail;
+  }
+
+  boolean casTail(long expected, long tail) {
+    return TAIL.compareAndSet(this, expected, tail);
+  }
+
+  void lazySetTail(long tail) {
+    TAIL.lazySet(this, tail);
+  }
+}
+
+abstract class RingQueueTailPadding extends RingQueueTail {
+  long p10, p11, p12, p13, p14, p15, p16, p17;
+}
+
+abstract class RingQueueHead extends RingQueueTailPadding {
+  private static final AtomicLongFieldUpdater<RingQueueHead> HEAD =
+      AtomicLongFieldUpdater.newUpdater(RingQueueHead.class, "head");
+
+  private volatile long head;
+
+  /* The last tail seen by the consumer of a single-consumer queue, which saves re-reading it on every poll. */
+  long tailCache;
+
+  long head() {
+    return head;
+  }
+
+  boolean casHead(long expected, long head) {
+    return HEAD.compareAndSet(this, expected, head);
+  }
+
+  void lazySetHead(long head) {
+    HEAD.lazySet(this, head);
+  }
+}
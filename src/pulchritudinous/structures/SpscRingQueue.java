@@ -0,0 +1,101 @@
+package pulchritudinous.structures;
+
+/*
+ * A bounded queue for exactly one producer thread and one consumer thread, built on the same
+ * power-of-two ring as ArrayList. Each side is the only writer of its own sequence, so neither
+ * needs a compare-and-swap: an ordered store of the sequence publishes the slots before it. Each
+ * side also caches the other's sequence and only re-reads it when the ring looks full or empty.
+ */
+public class SpscRingQueue<E> extends RingQueueSequences implements ConcurrentQueue<E> {
+
+  private final int length;
+  private final Object[] contents;
+
+  public SpscRingQueue(int capacity) {
+    if (capacity < 1) {
+      throw new IllegalArgumentException("Cannot create an SpscRingQueue with capacity less than 1.");
+    }
+
+    this.length = CapacityPolicy.lengthFor(capacity);
+    this.contents = new Object[length];
+  }
+
+  private int offset(long sequence) {
+    return (int) sequence & (length - 1);
+  }
+
+  private int available(long head, int max) {
+    if (tailCache - head < max) {
+      tailCache = tail();
+    }
+    return (int) Math.min(max, tailCache - head);
+  }
+
+  @Override
+  public int capacity() {
+    return length;
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return size() == 0;
+  }
+
+  @Override
+  public boolean offer(E item) {
+    if (item == null) {
+      throw new NullPointerException("Cannot insert null into SpscRingQueue.");
+    }
+
+    long tail = tail();
+    if (tail - headCache >= length) {
+      headCache = head();
+      if (tail - headCache >= length) {
+        return false;
+      }
+    }
+
+    contents[offset(tail)] = item;
+    lazySetTail(tail + 1);
+    return true;
+  }
+
+  @Override
+  public E poll() {
+    long head = head();
+    if (available(head, 1) == 0) {
+      return null;
+    }
+
+    int index = offset(head);
+    E item = (E) contents[index];
+    contents[index] = null;
+    lazySetHead(head + 1);
+    return item;
+  }
+
+  @Override
+  public int pollMany(E[] items, int max) {
+    long head = head();
+    int n = available(head, Math.min(max, items.length));
+    if (n <= 0) {
+      return 0;
+    }
+
+    for (int i = 0; i < n; i++) {
+      int index = offset(head + i);
+      items[i] = (E) contents[index];
+      contents[index] = null;
+    }
+    lazySetHead(head + n);
+    return n;
+  }
+
+  @Override
+  public int size() {
+    /* Reads the head first, so that the tail can only be ahead of it. */
+    long head = head();
+    long tail = tail();
+    return (int) Math.max(0, Math.min(length, tail - head));
+  }
+}
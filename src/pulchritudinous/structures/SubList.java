@@ -0,0 +1,187 @@
+package pulchritudinous.structures;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.IntSupplier;
+import java.util.function.UnaryOperator;
+
+/*
+ * A window of [offset, offset + size) onto another list, translating every index by the offset and
+ * tracking its own size as items are inserted and removed through it. Nothing is copied, so the
+ * cost of each operation is that of the same operation on the parent. One window serves every list,
+ * rather than one over the ring for ArrayList and one between boundary nodes for LinkedList: an
+ * index into the ring is already O(1), and LinkedList's finger makes stepping through a window O(1)
+ * as well. The window holds only while the parent is changed through it; it records the parent's
+ * modCount and throws ConcurrentModificationException once the parent has been changed otherwise.
+ */
+final class SubList<E> extends AbstractList<E> {
+
+  private final List<E> parent;
+  private final IntSupplier parentModCount;
+  private final int offset;
+  private int expectedModCount;
+
+  SubList(List<E> parent, IntSupplier parentModCount, int from, int to) {
+    super();
+    this.parent = parent;
+    this.parentModCount = parentModCount;
+    this.offset = from;
+    this.expectedModCount = parentModCount.getAsInt();
+    this.increaseSizeBy(to - from);
+  }
+
+  private void checkParentModCount() {
+    if (parentModCount.getAsInt() != expectedModCount) {
+      throw new ConcurrentModificationException();
+    }
+  }
+
+  /* Takes in the parent's new modCount after a change made through the window. */
+  private void changedParent() {
+    expectedModCount = parentModCount.getAsInt();
+  }
+
+  @Override
+  protected E findByIndex(int index) {
+    assert (isValidIndex(index));
+    checkParentModCount();
+    return parent.get(offset + index);
+  }
+
+  @Override
+  protected E findByItem(E item) {
+    int index = indexOf(item);
+    return index != NULL_INDEX ? findByIndex(index) : null;
+  }
+
+  @Override
+  protected AbstractList<E> newEmptyList() {
+    return parent instanceof AbstractList ? ((AbstractList<E>) parent).newEmptyList() : new ArrayList<>();
+  }
+
+  @Override
+  protected void resetToEmptyState() {
+    checkParentModCount();
+    parent.removeRange(offset, offset + size());
+    changedParent();
+    super.resetToEmptyState();
+  }
+
+  @Override
+  public void insertAll(List<E> items, int index) {
+    if (isValidInclusiveIndex(index)) {
+      checkParentModCount();
+      int count = items.size();
+      parent.insertAll(items, offset + index);
+      changedParent();
+      increaseSizeBy(count);
+    }
+  }
+
+  @Override
+  public void insertAt(E item, int index) {
+    if (isValidInclusiveIndex(index)) {
+      checkParentModCount();
+      parent.insertAt(item, offset + index);
+      changedParent();
+      incrementSize();
+    }
+  }
+
+  @Override
+  public Iterator<E> iterator() {
+    return new Iterator<E>() {
+      private int index = 0;
+
+      @Override
+      public boolean hasNext() {
+        return isValidIndex(index);
+      }
+
+      @Override
+      public E next() {
+        if (!hasNext()) {
+          throw new NoSuchElementException();
+        }
+        return findByIndex(index++);
+      }
+    };
+  }
+
+  @Override
+  public boolean remove(E item) {
+    int index = indexOf(item);
+    if (index == NULL_INDEX) {
+      return false;
+    }
+    removeAt(index);
+    return true;
+  }
+
+  @Override
+  public void removeAll(E item) {
+    for (int i = size() - 1; i >= 0; i--) {
+      if (findByIndex(i).equals(item)) {
+        removeAt(i);
+      }
+    }
+  }
+
+  @Override
+  public void removeAt(int index) {
+    if (isValidIndex(index)) {
+      checkParentModCount();
+      parent.removeAt(offset + index);
+      changedParent();
+      decrementSize();
+    }
+  }
+
+  @Override
+  public void removeRange(int from, int to) {
+    if (0 <= from && from <= to && to <= size()) {
+      checkParentModCount();
+      parent.removeRange(offset + from, offset + to);
+      changedParent();
+      decreaseSizeBy(to - from);
+    }
+  }
+
+  @Override
+  public void replaceAll(UnaryOperator<E> operator) {
+    for (int i = 0; i < size(); i++) {
+      parent.set(operator.apply(findByIndex(i)), offset + i);
+    }
+    changedParent();
+  }
+
+  @Override
+  public E set(E item, int index) {
+    if (!isValidIndex(index)) {
+      return null;
+    }
+    checkParentModCount();
+    E prev = parent.set(item, offset + index);
+    changedParent();
+    return prev;
+  }
+
+  @Override
+  public int size() {
+    checkParentModCount();
+    return super.size();
+  }
+
+  @Override
+  public void sort(Comparator<? super E> comparator) {
+    Object[] items = toArray();
+    Arrays.sort((E[]) items, comparator);
+    for (int i = 0; i < items.length; i++) {
+      parent.set((E) items[i], offset + i);
+    }
+    changedParent();
+  }
+}
@@ -0,0 +1,321 @@
+package pulchritudinous.structures;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.UnaryOperator;
+
+/*
+ * An AVL tree ordered by position rather than by value. Every node counts the items in its subtree,
+ * so that the node at any index is found in O(log n) by comparing the index against the size of the
+ * left subtree on the way down.
+ */
+public class TreeList<E> extends AbstractList<E> {
+
+  private Node<E> root;
+
+  public TreeList() {
+    super();
+    this.resetToEmptyState();
+  }
+
+  private static <E> Node<E> balance(Node<E> node) {
+    int skew = heightOf(node.left) - heightOf(node.right);
+    if (skew > 1) {
+      if (heightOf(node.left.left) < heightOf(node.left.right)) {
+        node.left = rotateLeft(node.left);
+      }
+      return rotateRight(node);
+    } else if (skew < -1) {
+      if (heightOf(node.right.right) < heightOf(node.right.left)) {
+        node.right = rotateRight(node.right);
+      }
+      return rotateLeft(node);
+    }
+    return update(node);
+  }
+
+  /* Builds a perfectly balanced tree over the given range of items. */
+  private static <E> Node<E> build(Object[] items, int from, int to) {
+    if (from >= to) {
+      return null;
+    }
+
+    int mid = (from + to) >>> 1;
+    Node<E> node = new Node<>((E) items[mid]);
+    node.left = build(items, from, mid);
+    node.right = build(items, mid + 1, to);
+    return update(node);
+  }
+
+  private static <E> Node<E> copy(Node<E> node) {
+    if (node == null) {
+      return null;
+    }
+
+    Node<E> copy = new Node<>(node.item);
+    copy.left = copy(node.left);
+    copy.right = copy(node.right);
+    copy.height = node.height;
+    copy.size = node.size;
+    return copy;
+  }
+
+  private static int copyOut(Node<?> node, Object[] target, int index) {
+    if (node == null) {
+      return index;
+    }
+
+    index = copyOut(node.left, target, index);
+    target[index++] = node.item;
+    return copyOut(node.right, target, index);
+  }
+
+  @Override
+  protected E findByIndex(int index) {
+    assert (isValidIndex(index));
+    return findNodeByIndex(index).item;
+  }
+
+  @Override
+  protected E findByItem(E item) {
+    int index = indexOf(item);
+    return index != NULL_INDEX ? findByIndex(index) : null;
+  }
+
+  private Node<E> findNodeByIndex(int index) {
+    Node<E> node = root;
+    while (true) {
+      int leftSize = sizeOf(node.left);
+      if (index < leftSize) {
+        node = node.left;
+      } else if (index > leftSize) {
+        index -= leftSize + 1;
+        node = node.right;
+      } else {
+        return node;
+      }
+    }
+  }
+
+  private static int heightOf(Node<?> node) {
+    return node != null ? node.height : 0;
+  }
+
+  private static <E> Node<E> insert(Node<E> node, int index, E item) {
+    if (node == null) {
+      return new Node<>(item);
+    }
+
+    int leftSize = sizeOf(node.left);
+    if (index <= leftSize) {
+      node.left = insert(node.left, index, item);
+    } else {
+      node.right = insert(node.right, index - leftSize - 1, item);
+    }
+    return balance(node);
+  }
+
+  @Override
+  protected TreeList<E> newEmptyList() {
+    return new TreeList<>();
+  }
+
+  private void rebuild(Object[] items, int size) {
+    root = build(items, 0, size);
+    decreaseSizeBy(size() - size);
+  }
+
+  private static <E> Node<E> remove(Node<E> node, int index) {
+    int leftSize = sizeOf(node.left);
+    if (index < leftSize) {
+      node.left = remove(node.left, index);
+    } else if (index > leftSize) {
+      node.right = remove(node.right, index - leftSize - 1);
+    } else if (node.left == null) {
+      return node.right;
+    } else if (node.right == null) {
+      return node.left;
+    } else {
+      /* Takes the place of the next item along, which has no left child and so is simple to remove. */
+      Node<E> next = node.right;
+      while (next.left != null) {
+        next = next.left;
+      }
+      node.item = next.item;
+      node.right = remove(node.right, 0);
+    }
+    return balance(node);
+  }
+
+  private static <E> void replaceAll(Node<E> node, UnaryOperator<E> operator) {
+    if (node != null) {
+      replaceAll(node.left, operator);
+      node.item = operator.apply(node.item);
+      replaceAll(node.right, operator);
+    }
+  }
+
+  @Override
+  protected void resetToEmptyState() {
+    super.resetToEmptyState();
+    root = null;
+  }
+
+  private static <E> Node<E> rotateLeft(Node<E> node) {
+    Node<E> right = node.right;
+    node.right = right.left;
+    right.left = update(node);
+    return update(right);
+  }
+
+  private static <E> Node<E> rotateRight(Node<E> node) {
+    Node<E> left = node.left;
+    node.left = left.right;
+    left.right = update(node);
+    return update(left);
+  }
+
+  private static int sizeOf(Node<?> node) {
+    return node != null ? node.size : 0;
+  }
+
+  private static <E> Node<E> update(Node<E> node) {
+    node.height = Math.max(heightOf(node.left), heightOf(node.right)) + 1;
+    node.size = sizeOf(node.left) + sizeOf(node.right) + 1;
+    return node;
+  }
+
+  /* Copies the shape of the tree as well as its items, so that the clone needs no rebalancing. */
+  @Override
+  public TreeList<E> clone() {
+    TreeList<E> clone = newEmptyList();
+    clone.root = copy(root);
+    clone.increaseSizeBy(size());
+    return clone;
+  }
+
+  @Override
+  public void insertAt(E item, int index) {
+    if (item == null) {
+      throw new NullPointerException("Cannot insert null into TreeList.");
+    }
+
+    if (isValidInclusiveIndex(index)) {
+      root = insert(root, index, item);
+      incrementSize();
+    }
+  }
+
+  /* Walks the tree in order, keeping the path to the current node on a stack as deep as the tree. */
+  @Override
+  public Iterator<E> iterator() {
+    return new Iterator<E>() {
+      private final Node<E>[] stack = new Node[heightOf(root)];
+      private int depth = 0;
+
+      {
+        pushLeftSpine(root);
+      }
+
+      private void pushLeftSpine(Node<E> node) {
+        for (; node != null; node = node.left) {
+          stack[depth++] = node;
+        }
+      }
+
+      @Override
+      public boolean hasNext() {
+        return depth > 0;
+      }
+
+      @Override
+      public E next() {
+        if (!hasNext()) {
+          throw new NoSuchElementException();
+        }
+
+        Node<E> node = stack[--depth];
+        pushLeftSpine(node.right);
+        return node.item;
+      }
+    };
+  }
+
+  @Override
+  public boolean remove(E item) {
+    int index = indexOf(item);
+    if (index == NULL_INDEX) {
+      return false;
+    }
+    removeAt(index);
+    return true;
+  }
+
+  @Override
+  public void removeAll(E item) {
+    Object[] items = toArray();
+    int size = 0;
+    for (Object curr : items) {
+      if (!curr.equals(item)) {
+        items[size++] = curr;
+      }
+    }
+
+    if (size < items.length) {
+      rebuild(items, size);
+    }
+  }
+
+  @Override
+  public void removeAt(int index) {
+    if (isValidIndex(index)) {
+      root = remove(root, index);
+      decrementSize();
+    }
+  }
+
+  @Override
+  public void replaceAll(UnaryOperator<E> operator) {
+    replaceAll(root, operator);
+  }
+
+  @Override
+  public E set(E item, int index) {
+    if (!isValidIndex(index)) {
+      return null;
+    }
+
+    Node<E> node = findNodeByIndex(index);
+    E prev = node.item;
+    node.item = item;
+    return prev;
+  }
+
+  @Override
+  public void sort(Comparator<? super E> comparator) {
+    Object[] items = toArray();
+    Arrays.sort((E[]) items, comparator);
+    rebuild(items, items.length);
+  }
+
+  @Override
+  public Object[] toArray() {
+    Object[] array = new Object[size()];
+    copyOut(root, array, 0);
+    return array;
+  }
+
+  private static final class Node<E> {
+    private E item;
+    private Node<E> left, right;
+    private int height, size;
+
+    private Node(E item) {
+      this.item = item;
+      this.height = 1;
+      this.size = 1;
+    }
+  }
+}
@@ -0,0 +1,320 @@
+package pulchritudinous.structures;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.UnaryOperator;
+
+/*
+ * A doubly linked list of chunks, each holding up to CHUNK_CAPACITY items in an array. Lookups by
+ * index skip whole chunks, traversals read items from contiguous arrays, and inserts and removals
+ * only shift items within one chunk. A full chunk is split in half on insert, and a chunk that has
+ * become sparse on remove absorbs its successor whenever their items fit in one chunk.
+ */
+public class UnrolledLinkedList<E> extends AbstractList<E> {
+
+  private static final int CHUNK_CAPACITY = 64;
+  private static final int MERGE_THRESHOLD = CHUNK_CAPACITY - (CHUNK_CAPACITY >> 2);
+
+  private final Chunk head, tail;
+
+  public UnrolledLinkedList() {
+    super();
+    this.head = new Chunk();
+    this.tail = new Chunk();
+    this.resetToEmptyState();
+  }
+
+  @Override
+  protected E findByIndex(int index) {
+    assert (isValidIndex(index));
+    Position position = findPositionByIndex(index);
+    return (E) position.chunk.items[position.offset];
+  }
+
+  @Override
+  protected E findByItem(E item) {
+    for (Chunk chunk = head.next; chunk != tail; chunk = chunk.next) {
+      for (int i = 0; i < chunk.count; i++) {
+        if (chunk.items[i].equals(item)) {
+          return (E) chunk.items[i];
+        }
+      }
+    }
+    return null;
+  }
+
+  /* Returns the chunk holding the index together with the index's offset within it. */
+  private Position findPositionByIndex(int index) {
+    assert (isValidInclusiveIndex(index));
+    Chunk chunk;
+    if (index <= (size() >> 1)) {
+      chunk = head.next;
+      while (index >= chunk.count && chunk.next != tail) {
+        index -= chunk.count;
+        chunk = chunk.next;
+      }
+    } else {
+      /* Walks backwards over the items after the index, stopping at the chunk that holds it. */
+      int remaining = size() - index;
+      chunk = tail.prev;
+      while (remaining > chunk.count) {
+        remaining -= chunk.count;
+        chunk = chunk.prev;
+      }
+      index = chunk.count - remaining;
+    }
+    return new Position(chunk, index);
+  }
+
+  private Chunk insertChunkAfter(Chunk chunk) {
+    Chunk inserted = new Chunk();
+    inserted.prev = chunk;
+    inserted.next = chunk.next;
+    chunk.next.prev = inserted;
+    chunk.next = inserted;
+    return inserted;
+  }
+
+  @Override
+  protected UnrolledLinkedList<E> newEmptyList() {
+    return new UnrolledLinkedList<>();
+  }
+
+  @Override
+  protected void resetToEmptyState() {
+    super.resetToEmptyState();
+    head.next = tail;
+    tail.prev = head;
+  }
+
+  private void unlink(Chunk chunk) {
+    chunk.prev.next = chunk.next;
+    chunk.next.prev = chunk.prev;
+  }
+
+  @Override
+  public UnrolledLinkedList<E> clone() {
+    UnrolledLinkedList<E> clone = newEmptyList();
+    for (Chunk chunk = head.next; chunk != tail; chunk = chunk.next) {
+      Chunk copy = clone.insertChunkAfter(clone.tail.prev);
+      System.arraycopy(chunk.items, 0, copy.items, 0, chunk.count);
+      copy.count = chunk.count;
+    }
+    clone.increaseSizeBy(size());
+    return clone;
+  }
+
+  @Override
+  public int indexOf(E item) {
+    int index = 0;
+    for (Chunk chunk = head.next; chunk != tail; chunk = chunk.next) {
+      for (int i = 0; i < chunk.count; i++) {
+        if (chunk.items[i].equals(item)) {
+          return index + i;
+        }
+      }
+      index += chunk.count;
+    }
+    return NULL_INDEX;
+  }
+
+  @Override
+  public void insertAt(E item, int index) {
+    if (item == null) {
+      throw new NullPointerException("Cannot insert null into UnrolledLinkedList.");
+    }
+
+    if (isValidInclusiveIndex(index)) {
+      Chunk chunk;
+      int offset;
+      if (isEmpty()) {
+        chunk = insertChunkAfter(head);
+        offset = 0;
+      } else {
+        Position position = findPositionByIndex(index);
+        chunk = position.chunk;
+        offset = position.offset;
+      }
+
+      if (chunk.count == CHUNK_CAPACITY) {
+        if (offset == CHUNK_CAPACITY) {
+          /* Appending to a full chunk starts a new one rather than leaving two half-empty chunks behind. */
+          chunk = insertChunkAfter(chunk);
+          offset = 0;
+        } else {
+          Chunk next = insertChunkAfter(chunk);
+          int half = CHUNK_CAPACITY >> 1;
+          System.arraycopy(chunk.items, half, next.items, 0, half);
+          Arrays.fill(chunk.items, half, CHUNK_CAPACITY, null);
+          chunk.count = half;
+          next.count = half;
+          if (offset > half) {
+            chunk = next;
+            offset -= half;
+          }
+        }
+      }
+
+      System.arraycopy(chunk.items, offset, chunk.items, offset + 1, chunk.count - offset);
+      chunk.items[offset] = item;
+      chunk.count++;
+      incrementSize();
+    }
+  }
+
+  @Override
+  public Iterator<E> iterator() {
+    return new Iterator<E>() {
+      private Chunk chunk = head.next;
+      private int index = 0;
+
+      @Override
+      public boolean hasNext() {
+        return chunk != tail;
+      }
+
+      @Override
+      public E next() {
+        if (!hasNext()) {
+          throw new NoSuchElementException();
+        }
+
+        E item = (E) chunk.items[index++];
+        if (index == chunk.count) {
+          chunk = chunk.next;
+          index = 0;
+        }
+        return item;
+      }
+    };
+  }
+
+  @Override
+  public boolean remove(E item) {
+    int index = indexOf(item);
+    if (index == NULL_INDEX) {
+      return false;
+    }
+    removeAt(index);
+    return true;
+  }
+
+  @Override
+  public void removeAll(E item) {
+    /* Packs the remaining items into as few chunks as possible, then drops the chunks left over. */
+    Chunk target = head.next;
+    int targetIndex = 0;
+    for (Chunk chunk = head.next; chunk != tail; chunk = chunk.next) {
+      for (int i = 0; i < chunk.count; i++) {
+        Object curr = chunk.items[i];
+        if (curr.equals(item)) {
+          decrementSize();
+          continue;
+        }
+
+        if (targetIndex == CHUNK_CAPACITY) {
+          target.count = CHUNK_CAPACITY;
+          target = target.next;
+          targetIndex = 0;
+        }
+        target.items[targetIndex++] = curr;
+      }
+    }
+
+    if (isEmpty()) {
+      resetToEmptyState();
+      return;
+    }
+
+    Arrays.fill(target.items, targetIndex, CHUNK_CAPACITY, null);
+    target.count = targetIndex;
+    target.next = tail;
+    tail.prev = target;
+  }
+
+  @Override
+  public void removeAt(int index) {
+    if (!isValidIndex(index)) {
+      return;
+    }
+
+    Position position = findPositionByIndex(index);
+    Chunk chunk = position.chunk;
+    int offset = position.offset;
+    System.arraycopy(chunk.items, offset + 1, chunk.items, offset, chunk.count - offset - 1);
+    chunk.items[--chunk.count] = null;
+    decrementSize();
+
+    if (chunk.count == 0) {
+      unlink(chunk);
+    } else if (chunk.next != tail && chunk.count + chunk.next.count <= MERGE_THRESHOLD) {
+      Chunk next = chunk.next;
+      System.arraycopy(next.items, 0, chunk.items, chunk.count, next.count);
+      chunk.count += next.count;
+      unlink(next);
+    }
+  }
+
+  @Override
+  public void replaceAll(UnaryOperator<E> operator) {
+    for (Chunk chunk = head.next; chunk != tail; chunk = chunk.next) {
+      for (int i = 0; i < chunk.count; i++) {
+        chunk.items[i] = operator.apply((E) chunk.items[i]);
+      }
+    }
+  }
+
+  @Override
+  public E set(E item, int index) {
+    if (!isValidIndex(index)) {
+      return null;
+    }
+
+    Position position = findPositionByIndex(index);
+    E prev = (E) position.chunk.items[position.offset];
+    position.chunk.items[position.offset] = item;
+    return prev;
+  }
+
+  /* Sorts a copy of the items and writes them back into the chunks they came from. */
+  @Override
+  public void sort(Comparator<? super E> comparator) {
+    Object[] items = toArray();
+    Arrays.sort((E[]) items, comparator);
+
+    int index = 0;
+    for (Chunk chunk = head.next; chunk != tail; chunk = chunk.next) {
+      System.arraycopy(items, index, chunk.items, 0, chunk.count);
+      index += chunk.count;
+    }
+  }
+
+  @Override
+  public Object[] toArray() {
+    Object[] array = new Object[size()];
+    int index = 0;
+    for (Chunk chunk = head.next; chunk != tail; chunk = chunk.next) {
+      System.arraycopy(chunk.items, 0, array, index, chunk.count);
+      index += chunk.count;
+    }
+    return array;
+  }
+
+  private static final class Chunk {
+    private final Object[] items = new Object[CHUNK_CAPACITY];
+    private int count;
+    private Chunk prev, next;
+  }
+
+  private static final class Position {
+    private final Chunk chunk;
+    private final int offset;
+
+    private Position(Chunk chunk, int offset) {
+      this.chunk = chunk;
+      this.offset = offset;
+    }
+  }
+}
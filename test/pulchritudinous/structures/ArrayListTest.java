@@ -2,10 +2,18 @@ package pulchritudinous.structures;
 
 import org.junit.Test;
 
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
+
 import static org.hamcrest.Matchers.is;
+import static junit.framework.TestCase.assertTrue;
+import static junit.framework.TestCase.fail;
 import static org.junit.Assert.assertThat;
 
-public class ArrayListTest extends ListTest {
+public class ArrayListTest extends FailFastListTest {
   private final ArrayList<String> arrayList = new ArrayList<>();
 
   @Override
@@ -26,4 +34,196 @@ public class ArrayListTest extends ListTest {
       assertThat(arrayList.get(i), is("" + i));
     }
   }
+
+  @Test
+  public void agreesWithJavaUtilArrayListAcrossTheEndOfTheRing() {
+    /* Random edits at both ends keep moving the first index around the backing array. */
+    Random random = new Random(42);
+    java.util.List<String> expected = new java.util.ArrayList<>();
+
+    for (int i = 0; i < 10_000; i++) {
+      int index = random.nextInt(expected.size() + 1);
+      switch (random.nextInt(4)) {
+        case 0:
+          arrayList.insertAt("" + i, index);
+          expected.add(index, "" + i);
+          break;
+        case 1:
+          ArrayList<String> items = new ArrayList<>();
+          java.util.List<String> expectedItems = new java.util.ArrayList<>();
+          for (int j = random.nextInt(200); j > 0; j--) {
+            items.add(i + ":" + j);
+            expectedItems.add(i + ":" + j);
+          }
+          arrayList.insertAll(items, index);
+          expected.addAll(index, expectedItems);
+          break;
+        case 2:
+          arrayList.removeAt(index);
+          if (index < expected.size()) {
+            expected.remove(index);
+          }
+          break;
+        default:
+          int to = Math.min(expected.size(), index + random.nextInt(150));
+          arrayList.removeRange(index, to);
+          expected.subList(index, to).clear();
+      }
+    }
+
+    assertThat(arrayList.toArray(), is(expected.toArray()));
+  }
+
+  @Test
+  public void doesNotAllocateUntilTheFirstInsert() {
+    assertThat(arrayList.capacity(), is(0));
+    arrayList.add("Something");
+    assertThat(arrayList.capacity(), is(16));
+
+    arrayList.clear();
+    assertThat(arrayList.capacity(), is(0));
+  }
+
+  @Test
+  public void roundsRequestedCapacitiesUpToPowersOfTwo() {
+    assertThat(new ArrayList<String>(1000).capacity(), is(1024));
+
+    arrayList.ensureCapacity(3000);
+    assertThat(arrayList.capacity(), is(4096));
+
+    arrayList.add("Something");
+    arrayList.add("Something else");
+    arrayList.add("Another thing");
+    arrayList.trimToSize();
+    assertThat(arrayList.capacity(), is(4));
+    assertThat(arrayList.last(), is("Another thing"));
+  }
+
+  @Test
+  public void shrinksOnceMostItemsHaveBeenRemoved() {
+    for (int i = 0; i < 1024; i++) {
+      arrayList.add("" + i);
+    }
+    assertThat(arrayList.capacity(), is(1024));
+
+    arrayList.pollMany(1000);
+    assertThat(arrayList.capacity(), is(64));
+
+    for (int i = 0; i < 24; i++) {
+      assertThat(arrayList.poll(), is("" + (1000 + i)));
+    }
+    assertThat(arrayList.capacity(), is(16));
+  }
+
+  @Test
+  public void neverShrinksWhenThePolicySaysSo() {
+    ArrayList<String> list = new ArrayList<>(CapacityPolicy.NEVER_SHRINK);
+    for (int i = 0; i < 1024; i++) {
+      list.add("" + i);
+    }
+
+    list.removeRange(0, 1024);
+    assertThat(list.capacity(), is(1024));
+  }
+
+  @Test
+  public void growsByTheFactorGivenByThePolicy() {
+    ArrayList<String> list = new ArrayList<>(new CapacityPolicy(3, 2, 0));
+    for (int i = 0; i < 5; i++) {
+      list.add("" + i);
+    }
+    assertThat(list.capacity(), is(16));
+  }
+
+  @Test
+  public void sortsInParallelWithTheSameResultAsSorting() {
+    /* Only compares the first two characters, so that stability shows in the result. */
+    Comparator<String> comparator = Comparator.comparing((String item) -> item.substring(0, 2));
+    ArrayList<String> anotherList = new ArrayList<>();
+    Random random = new Random(42);
+
+    for (int i = 0; i < 200_000; i++) {
+      String item = random.nextInt(90) + 10 + ":" + i;
+      if (random.nextBoolean()) {
+        arrayList.addFirst(item);
+        anotherList.addFirst(item);
+      } else {
+        arrayList.addLast(item);
+        anotherList.addLast(item);
+      }
+    }
+
+    ForkJoinPool pool = new ForkJoinPool(4);
+    try {
+      arrayList.parallelSort(comparator, pool);
+    } finally {
+      pool.shutdown();
+    }
+    anotherList.sort(comparator);
+
+    assertThat(arrayList.toArray(), is(anotherList.toArray()));
+  }
+
+  @Test
+  public void splitsIntoHalvesOfExactSizeAcrossTheEndOfTheRing() {
+    for (int i = 0; i < 1000; i++) {
+      arrayList.addFirst("" + i);
+    }
+
+    Spliterator<String> suffix = arrayList.spliterator();
+    Spliterator<String> prefix = suffix.trySplit();
+
+    assertTrue(suffix.hasCharacteristics(Spliterator.SUBSIZED));
+    assertThat(prefix.getExactSizeIfKnown(), is(500L));
+    assertThat(suffix.getExactSizeIfKnown(), is(500L));
+    prefix.tryAdvance(item -> assertThat(item, is("999")));
+    int[] expectedValue = {499};
+    suffix.forEachRemaining(item -> assertThat(item, is("" + expectedValue[0]--)));
+    assertThat(expectedValue[0], is(-1));
+    suffix.tryAdvance(item -> fail());
+  }
+
+  @Test
+  public void clonesDoNotSeeEachOthersChangesWhileSharingTheirContents() {
+    for (int i = 0; i < 100; i++) {
+      arrayList.addFirst("" + i);
+    }
+    Object[] expected = arrayList.toArray();
+
+    ArrayList<String> clone = arrayList.clone();
+    assertThat(clone.capacity(), is(arrayList.capacity()));
+    clone.set("Changed", 0);
+    clone.insertAt("Inserted", 50);
+    clone.removeAt(10);
+    clone.removeRange(20, 30);
+    clone.removeAll("42");
+    clone.replaceAll(item -> item + "!");
+    clone.sort(String::compareTo);
+    assertThat(arrayList.toArray(), is(expected));
+
+    ArrayList<String> anotherClone = arrayList.clone();
+    arrayList.poll();
+    arrayList.addLast("Added");
+    assertThat(anotherClone.toArray(), is(expected));
+    assertThat(clone.size(), is(89));
+  }
+
+  @Test
+  public void addsAllItemsAcrossTheEndsOfBothRings() {
+    ArrayList<String> anotherList = new ArrayList<>();
+    java.util.List<String> expected = new java.util.ArrayList<>();
+    for (int i = 0; i < 10; i++) {
+      arrayList.addLast("a" + i);
+      arrayList.addFirst("b" + i);
+      anotherList.addFirst("c" + i);
+      anotherList.addLast("d" + i);
+    }
+    arrayList.forEach(expected::add);
+    anotherList.forEach(expected::add);
+
+    arrayList.addAll(anotherList);
+
+    assertTrue(Arrays.equals(expected.toArray(), arrayList.toArray()));
+    assertTrue(Arrays.equals(expected.toArray(new String[0]), arrayList.toArray(new String[0])));
+  }
 }
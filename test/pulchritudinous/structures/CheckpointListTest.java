@@ -0,0 +1,151 @@
+package pulchritudinous.structures;
+
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+
+import static junit.framework.TestCase.assertFalse;
+import static junit.framework.TestCase.assertTrue;
+import static junit.framework.TestCase.fail;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+public class CheckpointListTest extends ListTest {
+
+  @Override
+  protected AbstractList newEmptyList() {
+    try (FileChannel channel = open(write(new ArrayList<>()))) {
+      return CheckpointList.map(channel, Codec.INTEGER);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private static File write(ArrayList<Integer> list) throws IOException {
+    File file = File.createTempFile("checkpoint", ".bin");
+    file.deleteOnExit();
+    try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.WRITE)) {
+      list.writeTo(channel, Codec.INTEGER);
+    }
+    return file;
+  }
+
+  private static FileChannel open(File file) throws IOException {
+    return FileChannel.open(file.toPath(), StandardOpenOption.READ);
+  }
+
+  /* Builds a list whose ring wraps around the end of its backing array, over several chunks. */
+  private static ArrayList<Integer> wrappedList(int size) {
+    ArrayList<Integer> list = new ArrayList<>();
+    for (int i = size / 2; i < size; i++) {
+      list.addLast(i);
+    }
+    for (int i = size / 2 - 1; i >= 0; i--) {
+      list.addFirst(i);
+    }
+    return list;
+  }
+
+  @Test
+  public void readsBackWhatWasWritten() throws IOException {
+    ArrayList<Integer> list = wrappedList(40_000);
+    File file = write(list);
+
+    try (FileChannel channel = open(file)) {
+      assertThat(ArrayList.readFrom(channel, Codec.INTEGER), is(list));
+      assertThat(channel.position(), is(channel.size()));
+    }
+    try (FileChannel channel = open(file)) {
+      assertThat(LinkedList.readFrom(channel, Codec.INTEGER), is((List) list));
+    }
+  }
+
+  @Test
+  public void readsCheckpointsOneAfterAnother() throws IOException {
+    File file = File.createTempFile("checkpoint", ".bin");
+    file.deleteOnExit();
+    LinkedList<Integer> first = new LinkedList<>();
+    first.add(1);
+    first.add(2);
+    ArrayList<Integer> second = wrappedList(10);
+
+    try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.WRITE)) {
+      first.writeTo(channel, Codec.INTEGER);
+      second.writeTo(channel, Codec.INTEGER);
+    }
+
+    try (FileChannel channel = open(file)) {
+      assertThat(ArrayList.readFrom(channel, Codec.INTEGER), is((List) first));
+      assertThat(CheckpointList.map(channel, Codec.INTEGER), is((List) second));
+    }
+  }
+
+  @Test
+  public void decodesItemsWithoutLoadingThem() throws IOException {
+    ArrayList<Integer> list = wrappedList(40_000);
+    CheckpointList<Integer> mapped;
+    try (FileChannel channel = open(write(list))) {
+      mapped = CheckpointList.map(channel, Codec.INTEGER);
+    }
+
+    assertThat(mapped.size(), is(40_000));
+    assertThat(mapped.get(0), is(0));
+    assertThat(mapped.get(16_383), is(16_383));
+    assertThat(mapped.get(16_384), is(16_384));
+    assertThat(mapped.last(), is(39_999));
+    assertThat(mapped.indexOf(20_000), is(20_000));
+    assertThat(mapped, is(list));
+    assertFalse(mapped.isLoaded());
+  }
+
+  @Test
+  public void loadsItemsOnFirstChange() throws IOException {
+    CheckpointList<Integer> mapped;
+    try (FileChannel channel = open(write(wrappedList(100)))) {
+      mapped = CheckpointList.map(channel, Codec.INTEGER);
+    }
+    List<Integer> clone = mapped.clone();
+
+    mapped.removeAt(0);
+    mapped.add(100);
+
+    assertTrue(mapped.isLoaded());
+    assertThat(mapped.size(), is(100));
+    assertThat(mapped.first(), is(1));
+    assertThat(mapped.last(), is(100));
+    assertThat(clone, is(wrappedList(100)));
+  }
+
+  @Test
+  public void rejectsFilesThatAreNotCheckpoints() throws IOException {
+    File file = File.createTempFile("checkpoint", ".bin");
+    file.deleteOnExit();
+    try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.WRITE)) {
+      channel.write(ByteBuffer.allocate(64));
+    }
+
+    try (FileChannel channel = open(file)) {
+      ArrayList.readFrom(channel, Codec.INTEGER);
+      fail();
+    } catch (Exception e) {
+      assertTrue(e instanceof IOException);
+    }
+  }
+
+  @Test
+  public void rejectsCodecsOfAnotherWidth() throws IOException {
+    File file = write(wrappedList(10));
+
+    try (FileChannel channel = open(file)) {
+      CheckpointList.map(channel, Codec.LONG);
+      fail();
+    } catch (Exception e) {
+      assertTrue(e instanceof IOException);
+    }
+  }
+}
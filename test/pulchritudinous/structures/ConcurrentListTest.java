@@ -0,0 +1,232 @@
+package pulchritudinous.structures;
+
+import org.junit.Test;
+
+import static junit.framework.TestCase.assertFalse;
+import static junit.framework.TestCase.assertTrue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+public class ConcurrentListTest extends ListTest {
+
+  @Override
+  protected ConcurrentList newEmptyList() {
+    return new ConcurrentList(new LinkedList());
+  }
+
+  @Test
+  public void addsItemIfAbsentOnlyOnce() {
+    ConcurrentList<String> list = newEmptyList();
+    assertTrue(list.addIfAbsent("Something"));
+    assertFalse(list.addIfAbsent("Something"));
+    assertThat(list.size(), is(1));
+  }
+
+  @Test
+  public void iteratesOverASnapshotOfTheItems() {
+    ConcurrentList<String> list = newEmptyList();
+    list.add("A");
+    list.add("B");
+
+    StringBuilder visited = new StringBuilder();
+    for (String item : list) {
+      visited.append(item);
+      list.add(item);
+    }
+    assertThat(visited.toString(), is("AB"));
+    assertThat(list.size(), is(4));
+  }
+
+  @Test
+  public void addsAllOfItself() {
+    ConcurrentList<String> list = newEmptyList();
+    list.add("A");
+    list.add("B");
+    list.addAll(list);
+    assertThat(list.toArray(), is(new Object[]{"A", "B", "A", "B"}));
+  }
+
+  @Test
+  public void drainsToConsumerThatGoesBackToTheList() {
+    ConcurrentList<String> list = newEmptyList();
+    list.add("A");
+    list.add("B");
+    list.add("C");
+
+    assertThat(list.drainTo(item -> list.add(item + "!"), 2), is(2));
+    assertThat(list.toArray(), is(new Object[]{"C", "A!", "B!"}));
+  }
+
+  /* Has several threads read the same list by index at once, which must not disturb any of them. */
+  private static boolean readsConcurrently(AbstractList<Integer> wrapped) throws InterruptedException {
+    int size = 1 << 12;
+    ConcurrentList<Integer> list = new ConcurrentList<>(wrapped);
+    for (int i = 0; i < size; i++) {
+      list.add(i);
+    }
+
+    boolean[] isConsistent = {true};
+    Thread[] readers = new Thread[8];
+    for (int r = 0; r < readers.length; r++) {
+      int seed = r;
+      readers[r] = new Thread(() -> {
+        java.util.Random random = new java.util.Random(seed);
+        for (int i = 0; i < 100_000; i++) {
+          int index = random.nextInt(size);
+          Integer item;
+          try {
+            item = list.get(index);
+          } catch (RuntimeException e) {
+            item = null;
+          }
+          if (item == null || item != index) {
+            isConsistent[0] = false;
+          }
+        }
+      });
+    }
+
+    for (Thread reader : readers) {
+      reader.start();
+    }
+    for (Thread reader : readers) {
+      reader.join(60_000);
+    }
+    return isConsistent[0];
+  }
+
+  @Test
+  public void readsUnrolledLinkedListFromManyThreads() throws InterruptedException {
+    assertTrue(readsConcurrently(new UnrolledLinkedList<>()));
+  }
+
+  @Test
+  public void readsLinkedListFromManyThreads() throws InterruptedException {
+    assertTrue(readsConcurrently(new LinkedList<>()));
+  }
+
+  @Test
+  public void readsLinkedListByIndexWhileAnotherThreadWrites() throws InterruptedException {
+    int size = 1 << 10;
+    LinkedList<Integer> linkedList = new LinkedList<>();
+    ConcurrentList<Integer> list = new ConcurrentList<>(linkedList);
+    for (int i = 0; i < size; i++) {
+      list.add(i);
+    }
+
+    /* Every write shifts the indexes of half the items, and then shifts them back, right where the readers walk. */
+    int middle = size / 2;
+    Thread writer = new Thread(() -> {
+      for (int i = 0; i < 100_000; i++) {
+        list.insertAt(-1, middle);
+        list.removeAt(middle);
+      }
+    });
+    Thread[] readers = new Thread[4];
+    for (int r = 0; r < readers.length; r++) {
+      int seed = r;
+      readers[r] = new Thread(() -> {
+        java.util.Random random = new java.util.Random(seed);
+        while (writer.isAlive()) {
+          list.get(middle - 32 + random.nextInt(64));
+        }
+      });
+    }
+
+    writer.start();
+    for (Thread reader : readers) {
+      reader.start();
+    }
+    writer.join(60_000);
+    for (Thread reader : readers) {
+      reader.join(60_000);
+    }
+
+    /* A finger left behind by a read that overlapped a write would send these walks to the wrong nodes. */
+    for (int i = 0; i < size; i++) {
+      assertThat(linkedList.get(i), is(i));
+    }
+  }
+
+  @Test
+  public void readsOffHeapListWhileAnotherThreadGrowsAndClearsIt() throws InterruptedException {
+    try (OffHeapArrayList<Integer> offHeapList = new OffHeapArrayList<>(Codec.INTEGER)) {
+      ConcurrentList<Integer> list = new ConcurrentList<>(offHeapList);
+      list.add(0);
+
+      /* Every expand and clear frees the buffers that an unlocked reader could still be reading. */
+      Thread writer = new Thread(() -> {
+        for (int round = 0; round < 20; round++) {
+          for (int i = 1; i < 1 << 12; i++) {
+            list.add(i);
+          }
+          list.clear();
+          list.add(0);
+        }
+      });
+
+      boolean[] isConsistent = {true};
+      Thread reader = new Thread(() -> {
+        while (writer.isAlive()) {
+          /* The list is briefly empty between a clear and the next add. */
+          Integer first = list.first();
+          if (first != null && first != 0) {
+            isConsistent[0] = false;
+          }
+        }
+      });
+
+      writer.start();
+      reader.start();
+      writer.join(60_000);
+      reader.join(60_000);
+
+      assertTrue(isConsistent[0]);
+    }
+  }
+
+  @Test
+  public void readsConsistentlyWhileOtherThreadsWrite() throws InterruptedException {
+    int size = 1 << 10;
+    ConcurrentList<Integer> list = new ConcurrentList<>(new ArrayList<>());
+    for (int i = 0; i < size; i++) {
+      list.add(i);
+    }
+
+    /* Writers only ever move items around or add and remove a spare one, so the list always holds 0 to size - 1. */
+    Thread[] writers = new Thread[2];
+    for (int w = 0; w < writers.length; w++) {
+      writers[w] = new Thread(() -> {
+        for (int i = 0; i < 10_000; i++) {
+          list.addFirst(-1);
+          list.remove(-1);
+          list.sort(Integer::compare);
+        }
+      });
+    }
+
+    boolean[] isConsistent = {true};
+    Thread reader = new Thread(() -> {
+      while (writers[0].isAlive() || writers[1].isAlive()) {
+        int index = list.indexOf(size - 1);
+        Object[] snapshot = list.toArray();
+        Integer last = list.last();
+        if (index < size - 1 || index > size + 1 || last != size - 1 || snapshot.length < size) {
+          isConsistent[0] = false;
+        }
+      }
+    });
+
+    for (Thread writer : writers) {
+      writer.start();
+    }
+    reader.start();
+    for (Thread writer : writers) {
+      writer.join(60_000);
+    }
+    reader.join(60_000);
+
+    assertTrue(isConsistent[0]);
+    assertThat(list.size(), is(size));
+  }
+}
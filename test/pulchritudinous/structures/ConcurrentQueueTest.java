@@ -0,0 +1,138 @@
+package pulchritudinous.structures;
+
+import org.junit.Test;
+
+import static junit.framework.TestCase.assertFalse;
+import static junit.framework.TestCase.assertTrue;
+import static junit.framework.TestCase.fail;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+public abstract class ConcurrentQueueTest {
+  private final ConcurrentQueue<String> queue;
+
+  public ConcurrentQueueTest() {
+    this.queue = newQueue(4);
+  }
+
+  protected abstract ConcurrentQueue newQueue(int capacity);
+
+  @Test
+  public void roundsCapacityUpToAPowerOfTwo() {
+    assertThat(newQueue(5).capacity(), is(8));
+  }
+
+  @Test
+  public void isEmptyUponInitialization() {
+    assertTrue(queue.isEmpty());
+    assertThat(queue.poll(), is((Object) null));
+  }
+
+  @Test
+  public void throwsNullPointerExceptionWhenNullIsOffered() {
+    try {
+      queue.offer(null);
+      fail();
+    } catch (Exception e) {
+      assertTrue(e instanceof NullPointerException);
+    }
+  }
+
+  @Test
+  public void pollsItemsInTheOrderTheyWereOfferedAroundTheRing() {
+    for (int i = 0; i < 10; i++) {
+      assertTrue(queue.offer("" + i));
+      assertTrue(queue.offer("" + i + "!"));
+      assertThat(queue.size(), is(2));
+      assertThat(queue.poll(), is("" + i));
+      assertThat(queue.poll(), is("" + i + "!"));
+    }
+    assertTrue(queue.isEmpty());
+  }
+
+  @Test
+  public void rejectsItemsOnceFull() {
+    for (int i = 0; i < 4; i++) {
+      assertTrue(queue.offer("" + i));
+    }
+
+    assertFalse(queue.offer("Something"));
+    assertThat(queue.poll(), is("0"));
+    assertTrue(queue.offer("Something"));
+  }
+
+  @Test
+  public void pollsManyItemsIntoTheGivenArray() {
+    queue.offer("1");
+    queue.offer("2");
+    queue.offer("3");
+
+    String[] items = new String[8];
+    assertThat(queue.pollMany(items, 2), is(2));
+    assertThat(items[0], is("1"));
+    assertThat(items[1], is("2"));
+
+    assertThat(queue.pollMany(items, 8), is(1));
+    assertThat(items[0], is("3"));
+    assertThat(queue.pollMany(items, 8), is(0));
+  }
+
+  @Test
+  public void handsEveryItemToExactlyOneConsumer() throws InterruptedException {
+    int producers = isSingleProducerSingleConsumer() ? 1 : 4;
+    int consumers = producers;
+    int itemsPerProducer = 100_000;
+    ConcurrentQueue<Integer> queue = newQueue(1024);
+    boolean[] received = new boolean[producers * itemsPerProducer];
+    int[] lastReceived = new int[producers];
+    Thread[] threads = new Thread[producers + consumers];
+
+    for (int p = 0; p < producers; p++) {
+      int producer = p;
+      threads[p] = new Thread(() -> {
+        for (int i = 0; i < itemsPerProducer; i++) {
+          while (!queue.offer(producer * itemsPerProducer + i)) {
+            Thread.yield();
+          }
+        }
+      });
+    }
+
+    int[] remaining = {received.length};
+    for (int c = 0; c < consumers; c++) {
+      threads[producers + c] = new Thread(() -> {
+        Integer[] items = new Integer[16];
+        while (true) {
+          synchronized (received) {
+            if (remaining[0] == 0) {
+              return;
+            }
+          }
+
+          int n = queue.pollMany(items, items.length);
+          synchronized (received) {
+            for (int i = 0; i < n; i++) {
+              assertFalse(received[items[i]]);
+              received[items[i]] = true;
+              remaining[0]--;
+            }
+          }
+        }
+      });
+    }
+
+    for (Thread thread : threads) {
+      thread.start();
+    }
+    for (Thread thread : threads) {
+      thread.join(60_000);
+    }
+
+    assertThat(remaining[0], is(0));
+    assertTrue(queue.isEmpty());
+  }
+
+  protected boolean isSingleProducerSingleConsumer() {
+    return false;
+  }
+}
@@ -0,0 +1,58 @@
+package pulchritudinous.structures;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static junit.framework.TestCase.assertFalse;
+import static junit.framework.TestCase.assertTrue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+public class DoubleArrayListTest {
+  private final DoubleArrayList list = new DoubleArrayList();
+  private final Random random = new Random();
+
+  @Test
+  public void retainsOrderAfterAddingFirstThenLast() {
+    list.addFirstDouble(2.5);
+    list.addFirstDouble(1.5);
+    list.addLastDouble(3.5);
+
+    assertThat(list.getDouble(0), is(1.5));
+    assertThat(list.getDouble(1), is(2.5));
+    assertThat(list.getDouble(2), is(3.5));
+  }
+
+  @Test
+  public void looksUpItemsTheSameWayAsDoubleEquals() {
+    list.addDouble(0.0);
+    list.addDouble(Double.NaN);
+
+    assertThat(list.indexOf(Double.NaN), is(1));
+    assertThat(list.indexOf(-0.0), is(-1));
+    assertTrue(list.contains(Double.valueOf(Double.NaN)));
+    assertFalse(list.contains(-0.0));
+  }
+
+  @Test
+  public void sortsItemsIntoAscendingOrderAcrossTheEndOfTheRing() {
+    /* Adding at the front wraps the first index around to the back of the backing array. */
+    for (int i = 0; i < 1000; i++) {
+      if (random.nextBoolean()) {
+        list.addFirstDouble(random.nextGaussian());
+      } else {
+        list.addLastDouble(random.nextGaussian());
+      }
+    }
+
+    list.sort();
+
+    double prev = list.pollDouble();
+    while (!list.isEmpty()) {
+      double curr = list.pollDouble();
+      assertTrue(prev <= curr);
+      prev = curr;
+    }
+  }
+}
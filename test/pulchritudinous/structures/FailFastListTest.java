@@ -0,0 +1,122 @@
+package pulchritudinous.structures;
+
+import org.junit.Test;
+
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import static junit.framework.TestCase.assertFalse;
+import static junit.framework.TestCase.assertTrue;
+import static junit.framework.TestCase.fail;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+/* The tests shared by lists whose iterators fail fast and whose hash codes are cached. */
+public abstract class FailFastListTest extends ListTest {
+
+  @Test
+  public void iteratorFailsFastOnceListChangesUnderIt() {
+    List<String> list = newEmptyList();
+    list.add("1");
+    list.add("2");
+
+    try {
+      for (String item : list) {
+        list.addFirst(item);
+      }
+      fail();
+    } catch (Exception e) {
+      assertTrue(e instanceof ConcurrentModificationException);
+    }
+  }
+
+  @Test
+  public void spliteratorFailsFastOnceListChangesUnderIt() {
+    List<String> list = newEmptyList();
+    list.add("1");
+    list.add("2");
+
+    try {
+      list.spliterator().forEachRemaining(item -> list.poll());
+      fail();
+    } catch (Exception e) {
+      assertTrue(e instanceof ConcurrentModificationException);
+    }
+  }
+
+  @Test
+  public void spliteratorFailsFastOnceListIsClearedUnderIt() {
+    List<String> list = newEmptyList();
+    for (int i = 0; i < 1000; i++) {
+      list.add("" + i);
+    }
+
+    int[] visited = {0};
+    try {
+      list.spliterator().forEachRemaining(item -> {
+        visited[0]++;
+        list.clear();
+      });
+      fail();
+    } catch (Exception e) {
+      assertTrue(e instanceof ConcurrentModificationException);
+    }
+    assertThat(visited[0], is(1));
+  }
+
+  @Test
+  public void iteratorThrowsOncePastTheEnd() {
+    List<String> list = newEmptyList();
+    Iterator<String> iterator = list.iterator();
+    try {
+      iterator.next();
+      fail();
+    } catch (Exception e) {
+      assertTrue(e instanceof NoSuchElementException);
+    }
+  }
+
+  @Test
+  public void hashCodeFollowsEveryChange() {
+    List<String> list = newEmptyList();
+    for (int i = 0; i < 10; i++) {
+      list.add("" + (9 - i));
+    }
+    java.util.List<String> expected = new java.util.ArrayList<>();
+    list.forEach(expected::add);
+    assertThat(list.hashCode(), is(expected.hashCode()));
+
+    list.set("x", 3);
+    expected.set(3, "x");
+    assertThat(list.hashCode(), is(expected.hashCode()));
+
+    list.replaceAll(item -> item + "!");
+    expected.replaceAll(item -> item + "!");
+    assertThat(list.hashCode(), is(expected.hashCode()));
+
+    list.sort(String::compareTo);
+    expected.sort(String::compareTo);
+    assertThat(list.hashCode(), is(expected.hashCode()));
+
+    list.removeAt(0);
+    expected.remove(0);
+    assertThat(list.hashCode(), is(expected.hashCode()));
+  }
+
+  @Test
+  public void isNotEqualOnceItemIsSetAfterHashing() {
+    List<String> list = newEmptyList();
+    list.add("1");
+    list.add("2");
+    List<String> clone = list.clone();
+    assertThat(list.hashCode(), is(clone.hashCode()));
+    assertTrue(list.equals(clone));
+
+    clone.set("3", 1);
+    clone.hashCode();
+
+    assertFalse(list.equals(clone));
+    assertFalse(clone.equals(list));
+  }
+}
@@ -0,0 +1,73 @@
+package pulchritudinous.structures;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+public class GapBufferListTest extends ListTest {
+  private final GapBufferList<String> gapBufferList = new GapBufferList<>();
+
+  @Override
+  protected AbstractList newEmptyList() {
+    return new GapBufferList();
+  }
+
+  @Test
+  public void agreesWithJavaUtilArrayListAsTheGapMovesAround() {
+    /* Edits mostly near a wandering cursor, with the odd jump and bulk edit elsewhere. */
+    Random random = new Random(42);
+    java.util.List<String> expected = new java.util.ArrayList<>();
+    int cursor = 0;
+
+    for (int i = 0; i < 50_000; i++) {
+      cursor = random.nextInt(10) == 0 ? random.nextInt(expected.size() + 1)
+          : Math.max(0, Math.min(expected.size(), cursor + random.nextInt(9) - 4));
+      String item = "" + random.nextInt(100);
+      switch (random.nextInt(8)) {
+        case 0:
+        case 1:
+        case 2:
+          gapBufferList.insertAt(item, cursor);
+          expected.add(cursor, item);
+          break;
+        case 3:
+        case 4:
+          gapBufferList.removeAt(cursor);
+          if (cursor < expected.size()) {
+            expected.remove(cursor);
+          }
+          break;
+        case 5:
+          assertThat(gapBufferList.set(item, cursor), is(cursor < expected.size() ? expected.set(cursor, item) : null));
+          break;
+        case 6:
+          GapBufferList<String> items = new GapBufferList<>();
+          for (int j = random.nextInt(20); j > 0; j--) {
+            items.add(item);
+            expected.add(cursor, item);
+          }
+          gapBufferList.insertAll(items, cursor);
+          break;
+        default:
+          if (random.nextInt(100) == 0) {
+            gapBufferList.removeAll(item);
+            expected.removeIf(item::equals);
+          } else {
+            int to = Math.min(expected.size(), cursor + random.nextInt(20));
+            gapBufferList.removeRange(cursor, to);
+            expected.subList(cursor, to).clear();
+          }
+      }
+      cursor = Math.min(cursor, expected.size());
+    }
+
+    assertThat(gapBufferList.toArray(), is(expected.toArray()));
+    assertThat(gapBufferList.clone().toArray(), is(expected.toArray()));
+    for (int i = 0; i < expected.size(); i++) {
+      assertThat(gapBufferList.get(i), is(expected.get(i)));
+    }
+  }
+}
@@ -0,0 +1,134 @@
+package pulchritudinous.structures;
+
+import org.junit.Test;
+
+import java.lang.ref.WeakReference;
+import java.util.Random;
+
+import static junit.framework.TestCase.assertNull;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+public class IndexedLinkedListTest extends FailFastListTest {
+  private final LinkedList<String> indexedList = new LinkedList<>(true);
+
+  @Override
+  protected AbstractList newEmptyList() {
+    return new LinkedList(true);
+  }
+
+  @Test
+  public void letsClearedItemsBeCollectedWhileTheirNodesArePooled() throws InterruptedException {
+    /* Only the first node fits in the pool, and it used to keep the second reachable through the chain of equal items. */
+    LinkedList<String> pooledList = new LinkedList<>(true, 1);
+    String item = new String("Something");
+    WeakReference<String> reference = new WeakReference<>(item);
+    pooledList.add(new String("Something"));
+    pooledList.add(item);
+    item = null;
+
+    pooledList.clear();
+    for (int i = 0; i < 10 && reference.get() != null; i++) {
+      System.gc();
+      Thread.sleep(10);
+    }
+
+    assertNull(reference.get());
+    pooledList.add("Something else");
+    assertThat(pooledList.toArray(), is(new Object[]{"Something else"}));
+  }
+
+  @Test
+  public void agreesWithJavaUtilArrayListOnLookupsByItem() {
+    /* Few distinct items, so that the index has to keep long chains of equal items in order. */
+    Random random = new Random(42);
+    java.util.List<String> expected = new java.util.ArrayList<>();
+
+    for (int i = 0; i < 20_000; i++) {
+      int index = random.nextInt(expected.size() + 1);
+      String item = "" + random.nextInt(50);
+      switch (random.nextInt(10)) {
+        case 0:
+        case 1:
+        case 2:
+          indexedList.insertAt(item, index);
+          expected.add(index, item);
+          break;
+        case 3:
+          assertThat(indexedList.remove(item), is(expected.remove(item)));
+          break;
+        case 4:
+          indexedList.removeAt(index);
+          if (index < expected.size()) {
+            expected.remove(index);
+          }
+          break;
+        case 5:
+          indexedList.set(item, index);
+          if (index < expected.size()) {
+            expected.set(index, item);
+          }
+          break;
+        case 6:
+          int to = Math.min(expected.size(), index + random.nextInt(10));
+          indexedList.removeRange(index, to);
+          expected.subList(index, to).clear();
+          break;
+        case 7:
+          if (random.nextInt(50) == 0) {
+            indexedList.sort(String::compareTo);
+            expected.sort(String::compareTo);
+          } else if (random.nextInt(50) == 0) {
+            indexedList.replaceAll(curr -> curr.length() > 1 ? curr.substring(1) : curr);
+            expected.replaceAll(curr -> curr.length() > 1 ? curr.substring(1) : curr);
+          } else if (random.nextInt(50) == 0) {
+            indexedList.removeAll(item);
+            expected.removeIf(item::equals);
+          }
+          break;
+        default:
+          assertThat(indexedList.contains(item), is(expected.contains(item)));
+          assertThat(indexedList.indexOf(item), is(expected.indexOf(item)));
+      }
+    }
+
+    assertThat(indexedList.toArray(), is(expected.toArray()));
+    for (int i = 0; i < 50; i++) {
+      assertThat(indexedList.indexOf("" + i), is(expected.indexOf("" + i)));
+    }
+
+    LinkedList<String> clone = (LinkedList<String>) indexedList.clone();
+    clone.clear();
+    assertThat(clone.contains("1"), is(false));
+    assertThat(indexedList.contains("1"), is(expected.contains("1")));
+  }
+
+  @Test
+  public void keepsEqualItemsInOrderWhenInsertingAtTheSamePlace() {
+    /* Inserting over and over at one place soon runs out of labels between neighbours. */
+    java.util.List<String> expected = new java.util.ArrayList<>();
+    for (int i = 0; i < 4; i++) {
+      indexedList.add("" + i);
+      expected.add("" + i);
+    }
+
+    for (int i = 0; i < 20_000; i++) {
+      String item = "" + (i % 5);
+      indexedList.insertAt(item, 2);
+      expected.add(2, item);
+      if (i % 7 == 0) {
+        indexedList.addFirst(item);
+        expected.add(0, item);
+      }
+    }
+
+    for (int i = 0; i < 5; i++) {
+      assertThat(indexedList.indexOf("" + i), is(expected.indexOf("" + i)));
+    }
+    while (!expected.isEmpty()) {
+      String item = expected.get(expected.size() / 3);
+      assertThat(indexedList.remove(item), is(expected.remove(item)));
+      assertThat(indexedList.indexOf(item), is(expected.indexOf(item)));
+    }
+  }
+}
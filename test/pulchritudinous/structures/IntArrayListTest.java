@@ -0,0 +1,138 @@
+package pulchritudinous.structures;
+
+import org.junit.Test;
+
+import java.util.PrimitiveIterator;
+import java.util.Random;
+
+import static junit.framework.TestCase.assertFalse;
+import static junit.framework.TestCase.assertTrue;
+import static junit.framework.TestCase.fail;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+public class IntArrayListTest {
+  private final IntArrayList list = new IntArrayList();
+  private final Random random = new Random();
+
+  @Test
+  public void retainsOrderAfterAddingFirstThenLast() {
+    list.addFirstInt(2);
+    list.addFirstInt(1);
+    list.addLastInt(3);
+
+    assertThat(list.getInt(0), is(1));
+    assertThat(list.getInt(1), is(2));
+    assertThat(list.getInt(2), is(3));
+  }
+
+  @Test
+  public void boxedAndUnboxedViewsAgree() {
+    list.addInt(1);
+    list.add(2);
+    list.insertIntAt(3, 1);
+
+    assertThat(list.get(1), is(3));
+    assertThat(list.getInt(2), is(2));
+    assertThat(list.indexOf(Integer.valueOf(2)), is(list.indexOf(2)));
+    assertTrue(list.contains(Integer.valueOf(3)));
+    assertTrue(list.contains(3));
+    assertThat(list.set(4, 0), is(1));
+    assertThat(list.setInt(5, 0), is(4));
+  }
+
+  @Test
+  public void looksUpIndexBasedOnFirstOccurrence() {
+    list.addInt(7);
+    list.addInt(8);
+    list.addInt(8);
+
+    assertThat(list.indexOf(7), is(0));
+    assertThat(list.indexOf(8), is(1));
+    assertThat(list.indexOf(9), is(-1));
+  }
+
+  @Test
+  public void throwsIndexOutOfBoundsExceptionWhenBadlyIndexed() {
+    try {
+      list.getInt(0);
+      fail();
+    } catch (Exception e) {
+      assertTrue(e instanceof IndexOutOfBoundsException);
+    }
+  }
+
+  @Test
+  public void pollsAndRemovesUnboxedItems() {
+    for (int i = 0; i < 10; i++) {
+      list.addInt(i % 3);
+    }
+
+    assertThat(list.pollInt(), is(0));
+    assertTrue(list.removeInt(1));
+    list.removeAllInt(2);
+
+    assertFalse(list.contains(2));
+    assertThat(list.size(), is(5));
+    assertThat(list.firstInt(), is(0));
+    assertThat(list.lastInt(), is(0));
+  }
+
+  @Test
+  public void sortsItemsIntoAscendingOrderAcrossTheEndOfTheRing() {
+    /* Adding at the front wraps the first index around to the back of the backing array. */
+    for (int i = 0; i < 1000; i++) {
+      if (random.nextBoolean()) {
+        list.addFirstInt(random.nextInt());
+      } else {
+        list.addLastInt(random.nextInt());
+      }
+    }
+
+    list.sort();
+
+    int prev = list.pollInt();
+    while (!list.isEmpty()) {
+      int curr = list.pollInt();
+      assertTrue(prev <= curr);
+      prev = curr;
+    }
+  }
+
+  @Test
+  public void isIterableWithoutBoxing() {
+    for (int i = 1; i <= 8; i++) {
+      list.addInt(i);
+    }
+
+    int expectedValue = 1;
+    for (PrimitiveIterator.OfInt iterator = list.iterator(); iterator.hasNext(); ) {
+      assertThat(iterator.nextInt(), is(expectedValue++));
+    }
+  }
+
+  @Test
+  public void isDeepCloneable() {
+    list.addFirstInt(2);
+    list.addFirstInt(1);
+
+    IntArrayList listClone = list.clone();
+    list.clear();
+
+    assertThat(listClone.toIntArray(), is(new int[] {1, 2}));
+  }
+
+  @Test
+  public void canHoldLotsOfItems() {
+    int largeSize = 1_000_000;
+    for (int i = 0; i < largeSize; i++) {
+      list.addInt(i);
+    }
+
+    assertThat(list.size(), is(largeSize));
+
+    for (int i = 0; i < largeSize; i++) {
+      assertThat(list.getInt(i), is(i));
+    }
+  }
+}
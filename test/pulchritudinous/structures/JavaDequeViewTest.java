@@ -0,0 +1,105 @@
+package pulchritudinous.structures;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import static junit.framework.TestCase.assertFalse;
+import static junit.framework.TestCase.assertTrue;
+import static junit.framework.TestCase.fail;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+public class JavaDequeViewTest {
+  private final LinkedList<Integer> list = new LinkedList<>();
+  private final JavaDequeView<Integer> view = list.asJavaDeque();
+
+  @Test
+  public void behavesAsDeque() {
+    view.offerLast(2);
+    view.offerFirst(1);
+    view.push(0);
+    view.addLast(3);
+
+    assertThat(view.peekFirst(), is(0));
+    assertThat(view.peekLast(), is(3));
+    assertThat(view.pop(), is(0));
+    assertThat(view.pollLast(), is(3));
+    assertThat(view.removeFirst(), is(1));
+    assertThat(view.removeLast(), is(2));
+    assertTrue(list.isEmpty());
+    assertThat(view.pollFirst(), is((Integer) null));
+    assertThat(view.peek(), is((Integer) null));
+  }
+
+  @Test
+  public void throwsExceptionWhenTakingFromEmptyDeque() {
+    try {
+      view.removeFirst();
+      fail();
+    } catch (Exception e) {
+      assertTrue(e instanceof NoSuchElementException);
+    }
+    try {
+      view.getLast();
+      fail();
+    } catch (Exception e) {
+      assertTrue(e instanceof NoSuchElementException);
+    }
+  }
+
+  @Test
+  public void iteratesBackwards() {
+    list.add(1);
+    list.add(2);
+    list.add(1);
+
+    Iterator<Integer> iterator = view.descendingIterator();
+    assertThat(iterator.next(), is(1));
+    assertThat(iterator.next(), is(2));
+    assertThat(iterator.next(), is(1));
+    assertFalse(iterator.hasNext());
+
+    assertTrue(view.removeLastOccurrence(1));
+    assertTrue(Arrays.equals(new Object[]{1, 2}, list.toArray()));
+  }
+
+  @Test
+  public void rejectsNullItems() {
+    try {
+      view.offerFirst(null);
+      fail();
+    } catch (Exception e) {
+      assertTrue(e instanceof NullPointerException);
+    }
+    assertFalse(view.contains(null));
+    assertFalse(view.removeLastOccurrence(null));
+  }
+
+  @Test
+  public void failsFastWhenChangedWhileIterating() {
+    list.add(1);
+    list.add(2);
+
+    try {
+      for (Integer item : view) {
+        view.push(item);
+      }
+      fail();
+    } catch (Exception e) {
+      assertTrue(e instanceof java.util.ConcurrentModificationException);
+    }
+  }
+
+  @Test
+  public void removesItemsThroughItsIterator() {
+    for (int i = 0; i < 10; i++) {
+      list.add(i);
+    }
+
+    assertTrue(view.removeIf(item -> item % 2 == 1));
+    assertTrue(Arrays.equals(new Object[]{0, 2, 4, 6, 8}, list.toArray()));
+  }
+}
@@ -0,0 +1,100 @@
+package pulchritudinous.structures;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+
+import static junit.framework.TestCase.assertFalse;
+import static junit.framework.TestCase.assertTrue;
+import static junit.framework.TestCase.fail;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+public class JavaListViewTest {
+  private final LinkedList<Integer> list = new LinkedList<>();
+  private final JavaListView<Integer> view = list.asJavaList();
+
+  @Test
+  public void throwsExceptionForBadIndexes() {
+    list.add(1);
+    try {
+      view.get(1);
+      fail();
+    } catch (Exception e) {
+      assertTrue(e instanceof IndexOutOfBoundsException);
+    }
+    try {
+      view.add(2, 2);
+      fail();
+    } catch (Exception e) {
+      assertTrue(e instanceof IndexOutOfBoundsException);
+    }
+  }
+
+  @Test
+  public void rejectsNullItems() {
+    try {
+      view.add(null);
+      fail();
+    } catch (Exception e) {
+      assertTrue(e instanceof NullPointerException);
+    }
+    assertFalse(view.contains(null));
+    assertThat(view.indexOf(null), is(-1));
+  }
+
+  @Test
+  public void worksWithCollectionsUtilities() {
+    for (int i = 0; i < 10; i++) {
+      list.add(i);
+    }
+
+    Collections.reverse(view);
+    Collections.swap(view, 0, 9);
+    view.subList(1, 3).clear();
+    view.sort(null);
+
+    assertTrue(Arrays.equals(new Object[]{0, 1, 2, 3, 4, 5, 6, 9}, list.toArray()));
+    assertThat(Collections.max(view), is(9));
+    assertThat(view.lastIndexOf(9), is(7));
+  }
+
+  @Test
+  public void removesItemsThroughItsIterator() {
+    for (int i = 0; i < 10; i++) {
+      list.add(i);
+    }
+
+    assertTrue(view.removeIf(item -> item % 3 != 0));
+    assertTrue(Arrays.equals(new Object[]{0, 3, 6, 9}, list.toArray()));
+
+    Iterator<Integer> iterator = view.iterator();
+    try {
+      iterator.remove();
+      fail();
+    } catch (Exception e) {
+      assertTrue(e instanceof IllegalStateException);
+    }
+    iterator.next();
+    iterator.remove();
+    assertThat(iterator.next(), is(3));
+    assertTrue(Arrays.equals(new Object[]{3, 6, 9}, list.toArray()));
+  }
+
+  @Test
+  public void failsFastWhenChangedWhileIterating() {
+    list.add(1);
+    list.add(2);
+
+    try {
+      for (Integer item : view) {
+        view.add(item);
+      }
+      fail();
+    } catch (Exception e) {
+      assertTrue(e instanceof java.util.ConcurrentModificationException);
+    }
+  }
+}
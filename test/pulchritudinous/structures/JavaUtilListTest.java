@@ -0,0 +1,51 @@
+package pulchritudinous.structures;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static junit.framework.TestCase.assertTrue;
+import static junit.framework.TestCase.fail;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+public class JavaUtilListTest extends ListTest {
+
+  @Override
+  protected List newEmptyList() {
+    return JavaUtilList.wrap(new java.util.LinkedList<>());
+  }
+
+  @Test
+  public void changesWrappedListInPlace() {
+    java.util.List<String> wrapped = new java.util.ArrayList<>(Arrays.asList("1", "2", "3"));
+    JavaUtilList<String> list = JavaUtilList.wrap(wrapped);
+
+    list.addFirst("0");
+    list.removeAt(2);
+
+    assertThat(wrapped, is(Arrays.asList("0", "1", "3")));
+    assertTrue(list.asJavaList().equals(wrapped));
+  }
+
+  @Test
+  public void rejectsNullFromSetAndReplaceAll() {
+    JavaUtilList<String> list = JavaUtilList.wrap(new java.util.ArrayList<>(Arrays.asList("1", "2")));
+
+    try {
+      list.set(null, 0);
+      fail();
+    } catch (Exception e) {
+      assertTrue(e instanceof NullPointerException);
+    }
+    try {
+      list.replaceAll(item -> item.equals("2") ? null : item + "!");
+      fail();
+    } catch (Exception e) {
+      assertTrue(e instanceof NullPointerException);
+    }
+
+    assertThat(list.indexOf("2"), is(1));
+    assertThat(list.hashCode(), is(Arrays.asList("1!", "2").hashCode()));
+  }
+}
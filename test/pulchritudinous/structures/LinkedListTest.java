@@ -1,9 +1,201 @@
 package pulchritudinous.structures;
 
-public class LinkedListTest extends ListTest {
+import org.junit.Test;
+
+import java.util.ConcurrentModificationException;
+import java.util.Random;
+
+import static junit.framework.TestCase.assertFalse;
+import static junit.framework.TestCase.assertTrue;
+import static junit.framework.TestCase.fail;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+public class LinkedListTest extends FailFastListTest {
+  private final LinkedList<String> linkedList = new LinkedList<>();
 
   @Override
   protected AbstractList newEmptyList() {
     return new LinkedList();
   }
+
+  @Test
+  public void rewritesItemsInASinglePassWithACursor() {
+    for (int i = 0; i < 10; i++) {
+      linkedList.add("" + i);
+    }
+
+    /* Drops odd items, doubles up multiples of three and marks everything else. */
+    LinkedList<String>.Cursor cursor = linkedList.cursor();
+    while (cursor.hasNext()) {
+      int item = Integer.parseInt(cursor.next());
+      if (item % 2 == 1) {
+        cursor.remove();
+      } else if (item % 3 == 0) {
+        cursor.insertBefore(item + "a");
+      } else {
+        assertThat(cursor.set(item + "!"), is("" + item));
+      }
+    }
+    cursor.insertAfter("End");
+
+    assertThat(linkedList.toArray(), is(new Object[]{"0a", "0", "2!", "4!", "6a", "6", "8!", "End"}));
+  }
+
+  @Test
+  public void walksBackwardsFromAnyItem() {
+    for (int i = 0; i < 5; i++) {
+      linkedList.add("" + i);
+    }
+
+    LinkedList<String>.Cursor cursor = linkedList.cursor(3);
+    assertThat(cursor.get(), is("3"));
+    assertThat(cursor.previous(), is("2"));
+    assertThat(cursor.previous(), is("1"));
+    cursor.remove();
+    assertThat(cursor.get(), is("0"));
+    assertFalse(cursor.hasPrevious());
+    cursor.remove();
+    cursor.insertAfter("First");
+
+    assertThat(linkedList.toArray(), is(new Object[]{"First", "2", "3", "4"}));
+  }
+
+  @Test
+  public void failsFastOnceTheListChangesUnderTheCursor() {
+    linkedList.add("Something");
+    LinkedList<String>.Cursor cursor = linkedList.cursor();
+    linkedList.add("Something else");
+
+    try {
+      cursor.next();
+      fail();
+    } catch (Exception e) {
+      assertTrue(e instanceof ConcurrentModificationException);
+    }
+  }
+
+  @Test
+  public void cannotRemoveBeforeTheFirstItem() {
+    linkedList.add("Something");
+
+    try {
+      linkedList.cursor().remove();
+      fail();
+    } catch (Exception e) {
+      assertTrue(e instanceof IllegalStateException);
+    }
+  }
+
+  @Test
+  public void reusesPooledNodesWithoutMixingUpItems() {
+    LinkedList<String> pooledList = new LinkedList<>(false, 16);
+    java.util.List<String> expected = new java.util.ArrayList<>();
+
+    for (int round = 0; round < 100; round++) {
+      for (int i = 0; i < 20; i++) {
+        pooledList.add(round + ":" + i);
+        expected.add(round + ":" + i);
+      }
+      pooledList.removeRange(5, 10);
+      expected.subList(5, 10).clear();
+      pooledList.set("Changed", 3);
+      expected.set(3, "Changed");
+      for (int i = 0; i < 12; i++) {
+        assertThat(pooledList.poll(), is(expected.remove(0)));
+      }
+      if (round % 10 == 0) {
+        pooledList.clear();
+        expected.clear();
+      }
+    }
+
+    assertThat(pooledList.toArray(), is(expected.toArray()));
+  }
+
+  @Test
+  public void setsItemsInPlace() {
+    linkedList.add("A");
+    linkedList.add("B");
+    LinkedList<String>.Cursor cursor = linkedList.cursor(1);
+
+    assertThat(linkedList.set("C", 1), is("B"));
+    assertThat(cursor.get(), is("C"));
+  }
+
+  @Test
+  public void keepsEveryItemWhenComparatorThrowsPartWayThroughSort() {
+    for (int i = 0; i < 100; i++) {
+      linkedList.add("" + (i * 37 % 100));
+    }
+
+    int[] comparisons = {0};
+    try {
+      linkedList.sort((a, b) -> {
+        if (++comparisons[0] == 150) {
+          throw new IllegalStateException();
+        }
+        return a.compareTo(b);
+      });
+      fail();
+    } catch (Exception e) {
+      assertTrue(e instanceof IllegalStateException);
+    }
+
+    java.util.Set<String> seen = new java.util.HashSet<>();
+    for (int i = 0; i < 100; i++) {
+      seen.add(linkedList.get(i));
+    }
+    assertThat(seen.size(), is(100));
+    assertThat(linkedList.last(), is(linkedList.get(99)));
+
+    linkedList.sort(String::compareTo);
+    assertThat(linkedList.first(), is("0"));
+    assertThat(linkedList.last(), is("99"));
+  }
+
+  @Test
+  public void getsEveryItemOfALargeListInTurn() {
+    int largeSize = 1_000_000;
+    for (int i = 0; i < largeSize; i++) {
+      linkedList.add("" + i);
+    }
+
+    for (int i = 0; i < largeSize; i++) {
+      assertThat(linkedList.get(i), is("" + i));
+    }
+  }
+
+  @Test
+  public void agreesWithJavaUtilArrayListUnderEditsNearTheLastAccess() {
+    Random random = new Random(42);
+    java.util.List<String> expected = new java.util.ArrayList<>();
+    int index = 0;
+
+    for (int i = 0; i < 50_000; i++) {
+      index = Math.max(0, Math.min(expected.size(), index + random.nextInt(7) - 3));
+      switch (random.nextInt(6)) {
+        case 0:
+        case 1:
+          linkedList.insertAt("" + i, index);
+          expected.add(index, "" + i);
+          break;
+        case 2:
+          linkedList.removeAt(index);
+          if (index < expected.size()) {
+            expected.remove(index);
+          }
+          break;
+        case 3:
+          int to = Math.min(expected.size(), index + random.nextInt(5));
+          linkedList.removeRange(index, to);
+          expected.subList(index, to).clear();
+          break;
+        default:
+          assertThat(linkedList.get(index), is(index < expected.size() ? expected.get(index) : null));
+      }
+    }
+
+    assertThat(linkedList.toArray(), is(expected.toArray()));
+  }
 }
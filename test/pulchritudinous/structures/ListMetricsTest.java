@@ -0,0 +1,77 @@
+package pulchritudinous.structures;
+
+import org.junit.Test;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import static junit.framework.TestCase.assertTrue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.is;
+
+public class ListMetricsTest {
+
+  /* Counters are shared by every test in the JVM, so only lower bounds on how far they moved are checked. */
+  private static long delta(LongAdder counter, Runnable action) {
+    long before = counter.sum();
+    action.run();
+    return counter.sum() - before;
+  }
+
+  @Test
+  public void isInstalledFromTheSystemProperty() {
+    assertTrue(Metrics.IS_ENABLED);
+    assertTrue(Metrics.LISTENER instanceof RecordingListMetrics);
+  }
+
+  @Test
+  public void reportsArrayListResizesAndMoves() {
+    ArrayList<String> list = new ArrayList<>();
+    assertThat(delta(RecordingListMetrics.RESIZES, () -> {
+      for (int i = 0; i < 17; i++) {
+        list.add("" + i);
+      }
+    }), greaterThanOrEqualTo(2L));
+
+    assertThat(delta(RecordingListMetrics.ITEMS_MOVED, () -> list.insertAt("Middle", 9)), greaterThanOrEqualTo(8L));
+  }
+
+  @Test
+  public void reportsLinkedListWalks() {
+    LinkedList<String> list = new LinkedList<>();
+    for (int i = 0; i < 100; i++) {
+      list.add("" + i);
+    }
+
+    assertThat(delta(RecordingListMetrics.STEPS_WALKED, () -> list.get(50)), greaterThanOrEqualTo(49L));
+  }
+
+  @Test
+  public void reportsComparisonsAndNoTemporaryListsWhileSortingInPlace() {
+    ArrayList<String> arrayList = new ArrayList<>();
+    OffHeapArrayList<Integer> offHeapList = new OffHeapArrayList<>(Codec.INTEGER);
+    for (int i = 10; i > 0; i--) {
+      arrayList.add("" + i);
+      offHeapList.add(i);
+    }
+
+    assertThat(delta(RecordingListMetrics.COMPARISONS, () -> arrayList.sort(String::compareTo)), greaterThanOrEqualTo(9L));
+    assertThat(delta(RecordingListMetrics.TEMPORARY_LISTS, () -> offHeapList.sort(Integer::compare)), is(0L));
+    assertThat(offHeapList.toArray(), is(new Object[]{1, 2, 3, 4, 5, 6, 7, 8, 9, 10}));
+    offHeapList.close();
+  }
+
+  @Test
+  public void reportsScansForItems() {
+    ArrayList<String> arrayList = new ArrayList<>();
+    LinkedList<String> linkedList = new LinkedList<>();
+    for (int i = 0; i < 10; i++) {
+      arrayList.add("" + i);
+      linkedList.add("" + i);
+    }
+
+    assertThat(delta(RecordingListMetrics.ITEMS_SCANNED, () -> arrayList.contains("Missing")), greaterThanOrEqualTo(10L));
+    assertThat(delta(RecordingListMetrics.ITEMS_SCANNED, () -> linkedList.remove("4")), greaterThanOrEqualTo(5L));
+    assertThat(linkedList.size(), is(9));
+  }
+}
@@ -3,7 +3,9 @@ package pulchritudinous.structures;
 import org.junit.Test;
 
 import java.util.Arrays;
+import java.util.Comparator;
 import java.util.Random;
+import java.util.stream.Collectors;
 
 import static junit.framework.TestCase.assertFalse;
 import static junit.framework.TestCase.assertTrue;
@@ -131,6 +133,40 @@ public abstract class ListTest {
     assertThat(list.get(2), is("3"));
   }
 
+  @Test
+  public void retainsOrderAfterInsertingMany() {
+    List<String> someItems = newEmptyList();
+    someItems.add("2");
+    someItems.add("3");
+
+    list.add("1");
+    list.add("4");
+    list.insertAll(someItems, 1);
+    list.insertAll(list, 4);
+
+    assertThat(list.size(), is(8));
+    for (int i = 0; i < 8; i++) {
+      assertThat(list.get(i), is("" + (i % 4 + 1)));
+    }
+  }
+
+  @Test
+  public void doesNotContainItemsThatHaveBeenRemovedInTheGivenRange() {
+    for (int i = 1; i <= 8; i++) {
+      list.add("" + i);
+    }
+
+    list.removeRange(1, 3);
+    list.removeRange(3, 5);
+    list.removeRange(2, 2);
+
+    assertThat(list.size(), is(4));
+    assertThat(list.get(0), is("1"));
+    assertThat(list.get(1), is("4"));
+    assertThat(list.get(2), is("5"));
+    assertThat(list.get(3), is("8"));
+  }
+
   @Test
   public void retainsOrderAfterAddingFirstThenLast() {
     list.addFirst("2");
@@ -222,6 +258,28 @@ public abstract class ListTest {
     }
   }
 
+  @Test
+  public void streamsItemsInOrder() {
+    for (int i = 1; i <= 8; i++) {
+      list.add("" + i);
+    }
+
+    assertThat(list.stream().collect(Collectors.joining()), is("12345678"));
+  }
+
+  @Test
+  public void parallelStreamsVisitEveryItemExactlyOnce() {
+    for (int i = 0; i < 100_000; i++) {
+      list.add("" + i);
+    }
+
+    long sum = list.parallelStream().mapToLong(Long::parseLong).sum();
+    String[] items = list.parallelStream().toArray(String[]::new);
+
+    assertThat(sum, is(99_999L * 100_000L / 2));
+    assertTrue(Arrays.equals(items, list.toArray()));
+  }
+
   @Test
   public void looksUpIndexBasedOnFirstOccurrence() {
     list.add("1");
@@ -279,6 +337,211 @@ public abstract class ListTest {
     }
   }
 
+  @Test
+  public void keepsPolledListAndSourceApartOnceEitherChanges() {
+    for (int i = 1; i <= 8; i++) {
+      list.add("" + i);
+    }
+
+    List<String> anotherList = list.pollMany(3);
+    anotherList.removeAt(0);
+    anotherList.set("x", 0);
+    anotherList.add("y");
+    list.removeAt(0);
+    list.set("z", 0);
+
+    assertThat(anotherList.size(), is(3));
+    assertThat(anotherList.toArray(), is(new Object[]{"x", "3", "y"}));
+    assertThat(list.size(), is(4));
+    assertThat(list.toArray(), is(new Object[]{"z", "6", "7", "8"}));
+  }
+
+  @Test
+  public void addsAllItemsOfAnotherList() {
+    list.add("0");
+    List<String> anotherList = newEmptyList();
+    for (int i = 1; i <= 100; i++) {
+      anotherList.add("" + i);
+    }
+
+    list.addAll(anotherList);
+    list.addAll(list);
+
+    assertThat(list.size(), is(202));
+    assertThat(anotherList.size(), is(100));
+    for (int i = 0; i <= 100; i++) {
+      assertThat(list.get(i), is("" + i));
+      assertThat(list.get(101 + i), is("" + i));
+    }
+  }
+
+  @Test
+  public void addsRangeOfArray() {
+    list.add("0");
+
+    list.addAll(new String[]{"a", "1", "2", "b"}, 1, 3);
+    list.addAll(new String[]{"c"}, 1, 0);
+    list.addAll(new String[]{"d"}, 0, 2);
+
+    assertTrue(Arrays.equals(new Object[]{"0", "1", "2"}, list.toArray()));
+  }
+
+  @Test
+  public void throwsExceptionWhenAddingArrayHoldingNull() {
+    try {
+      list.addAll(new String[]{"Something", null}, 0, 2);
+      fail();
+    } catch (Exception e) {
+      assertTrue(e instanceof NullPointerException);
+    }
+  }
+
+  @Test
+  public void fillsGivenArrayWhenItemsFit() {
+    list.add("1");
+    list.add("2");
+    String[] array = {"a", "b", "c", "d"};
+
+    assertTrue(list.toArray(array) == array);
+    assertTrue(Arrays.equals(new String[]{"1", "2", null, "d"}, array));
+    assertTrue(Arrays.equals(new String[]{"1", "2"}, list.toArray(new String[0])));
+  }
+
+  @Test
+  public void isViewableAsJavaUtilList() {
+    java.util.List<String> view = list.asJavaList();
+    view.add("1");
+    view.addAll(Arrays.asList("2", "3"));
+    view.remove("2");
+    view.add(0, "0");
+
+    assertThat(list.size(), is(3));
+    assertTrue(Arrays.equals(new Object[]{"0", "1", "3"}, list.toArray()));
+    assertThat(view, is(Arrays.asList("0", "1", "3")));
+  }
+
+  @Test
+  public void drainsItemsInOrderToConsumer() {
+    for (int i = 1; i <= 8; i++) {
+      list.add("" + i);
+    }
+
+    java.util.List<String> drained = new java.util.ArrayList<>();
+
+    assertThat(list.drainTo(drained::add, 3), is(3));
+    assertThat(drained, is(Arrays.asList("1", "2", "3")));
+    assertThat(list.size(), is(5));
+    assertThat(list.first(), is("4"));
+
+    assertThat(list.drainTo(drained::add, 100), is(5));
+    assertTrue(list.isEmpty());
+    assertThat(list.drainTo(drained::add, 1), is(0));
+    assertThat(drained.size(), is(8));
+  }
+
+  @Test
+  public void drainsNoMoreItemsThanFitInArray() {
+    for (int i = 1; i <= 8; i++) {
+      list.add("" + i);
+    }
+
+    String[] items = new String[3];
+
+    assertThat(list.drainTo(items, 5), is(3));
+    assertTrue(Arrays.equals(new String[]{"1", "2", "3"}, items));
+    assertThat(list.size(), is(5));
+    assertThat(list.drainTo(items, -1), is(0));
+    assertThat(list.size(), is(5));
+  }
+
+  @Test
+  public void pollingManyKeepsBothListsUsable() {
+    for (int i = 1; i <= 8; i++) {
+      list.add("" + i);
+    }
+
+    List<String> anotherList = list.pollMany(8);
+    anotherList.add("9");
+    list.add("10");
+
+    assertThat(anotherList.size(), is(9));
+    assertThat(anotherList.last(), is("9"));
+    assertThat(anotherList.get(7), is("8"));
+    assertThat(list.size(), is(1));
+    assertThat(list.first(), is("10"));
+  }
+
+  @Test
+  public void subListIsViewOntoRange() {
+    for (int i = 0; i < 10; i++) {
+      list.add("" + i);
+    }
+
+    List<String> subList = list.subList(2, 6);
+
+    assertThat(subList.size(), is(4));
+    assertThat(subList.first(), is("2"));
+    assertThat(subList.last(), is("5"));
+    assertThat(subList.indexOf("4"), is(2));
+    assertFalse(subList.contains("6"));
+
+    subList.set("x", 0);
+    subList.removeAt(1);
+    subList.add("y");
+
+    assertThat(subList.size(), is(4));
+    assertThat(list.size(), is(10));
+    assertTrue(Arrays.equals(new Object[]{"x", "4", "5", "y"}, subList.toArray()));
+    assertTrue(Arrays.equals(new Object[]{"0", "1", "x", "4", "5", "y", "6", "7", "8", "9"}, list.toArray()));
+
+    subList.clear();
+
+    assertTrue(subList.isEmpty());
+    assertTrue(Arrays.equals(new Object[]{"0", "1", "6", "7", "8", "9"}, list.toArray()));
+  }
+
+  @Test
+  public void sortsSubListInPlace() {
+    list.add("9");
+    list.add("3");
+    list.add("1");
+    list.add("2");
+    list.add("0");
+
+    list.subList(1, 4).sort(String::compareTo);
+
+    assertTrue(Arrays.equals(new Object[]{"9", "1", "2", "3", "0"}, list.toArray()));
+  }
+
+  @Test
+  public void subListFailsFastOnceParentIsChangedOtherwise() {
+    for (int i = 0; i < 5; i++) {
+      list.add("" + i);
+    }
+
+    List<String> subList = list.subList(1, 3);
+    subList.removeAt(0);
+    assertThat(subList.first(), is("2"));
+
+    list.addFirst("x");
+    try {
+      subList.get(0);
+      fail();
+    } catch (Exception e) {
+      assertTrue(e instanceof java.util.ConcurrentModificationException);
+    }
+  }
+
+  @Test
+  public void returnsNullForBadSubListRange() {
+    list.add("Something");
+
+    assertThat(list.subList(-1, 1), is((List) null));
+    assertThat(list.subList(1, 0), is((List) null));
+    assertThat(list.subList(0, 2), is((List) null));
+    assertThat(list.subList(1, 1).size(), is(0));
+  }
+
   @Test
   public void sortsItemsIntoAscendingOrder() {
     /* Adds 1000 random items to the list. */
@@ -317,6 +580,44 @@ public abstract class ListTest {
     assertTrue(list.isEmpty());
   }
 
+  @Test
+  public void sortingIsStable() {
+    /* Sorts items by their first character only, so that equal keys keep their original order. */
+    for (int i = 0; i < 1000; i++) {
+      list.add((char) ('a' + random.nextInt(5)) + ":" + i);
+    }
+
+    list.sort(Comparator.comparing((String item) -> item.charAt(0)));
+
+    String prev = list.first();
+    for (int i = 1; i < list.size(); i++) {
+      String curr = list.get(i);
+      assertTrue(prev.charAt(0) <= curr.charAt(0));
+      if (prev.charAt(0) == curr.charAt(0)) {
+        assertTrue(Integer.parseInt(prev.substring(2)) < Integer.parseInt(curr.substring(2)));
+      }
+      prev = curr;
+    }
+  }
+
+  @Test
+  public void sortingWithLambdaMatchesSortingWithComparator() {
+    List<String> anotherList = newEmptyList();
+    for (int i = 0; i < 1000; i++) {
+      String item = "" + random.nextInt(100);
+      list.add(item);
+      anotherList.add(item);
+    }
+
+    list.sort((a, b) -> a.compareTo(b));
+    anotherList.sort(Comparator.naturalOrder());
+
+    assertThat(list, is(anotherList));
+    for (int i = list.size() - 1; i >= 0; i--) {
+      assertThat(list.get(i), is(anotherList.get(i)));
+    }
+  }
+
   @Test
   public void containsAllItemsThatHaveBeenAdded() {
     List<String> someItems = newEmptyList();
@@ -0,0 +1,62 @@
+package pulchritudinous.structures;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static junit.framework.TestCase.assertFalse;
+import static junit.framework.TestCase.assertTrue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+public class LongArrayListTest {
+  private final LongArrayList list = new LongArrayList();
+  private final Random random = new Random();
+
+  @Test
+  public void retainsOrderAfterAddingFirstThenLast() {
+    list.addFirstLong(2L);
+    list.addFirstLong(1L);
+    list.addLastLong(Long.MAX_VALUE);
+
+    assertThat(list.getLong(0), is(1L));
+    assertThat(list.getLong(1), is(2L));
+    assertThat(list.getLong(2), is(Long.MAX_VALUE));
+    assertThat(list.indexOf(Long.MAX_VALUE), is(2));
+  }
+
+  @Test
+  public void pollsAndRemovesUnboxedItems() {
+    for (long i = 0; i < 10; i++) {
+      list.addLong(i % 3);
+    }
+
+    assertThat(list.pollLong(), is(0L));
+    assertTrue(list.removeLong(1L));
+    list.removeAllLong(2L);
+
+    assertFalse(list.contains(2L));
+    assertThat(list.size(), is(5));
+  }
+
+  @Test
+  public void sortsItemsIntoAscendingOrderAcrossTheEndOfTheRing() {
+    /* Adding at the front wraps the first index around to the back of the backing array. */
+    for (int i = 0; i < 1000; i++) {
+      if (random.nextBoolean()) {
+        list.addFirstLong(random.nextLong());
+      } else {
+        list.addLastLong(random.nextLong());
+      }
+    }
+
+    list.sort();
+
+    long prev = list.pollLong();
+    while (!list.isEmpty()) {
+      long curr = list.pollLong();
+      assertTrue(prev <= curr);
+      prev = curr;
+    }
+  }
+}
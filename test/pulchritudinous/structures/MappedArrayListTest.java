@@ -0,0 +1,165 @@
+package pulchritudinous.structures;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static junit.framework.TestCase.assertTrue;
+import static junit.framework.TestCase.fail;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+public class MappedArrayListTest extends ListTest {
+  /* Every list opened by the test, including those ListTest makes before the other fields are set. */
+  private java.util.List<MappedArrayList<?>> opened;
+
+  private final Path path = newPath();
+  private final MappedArrayList<Integer> mappedList = open(path, Codec.INTEGER);
+
+  @Override
+  protected AbstractList newEmptyList() {
+    return open(newPath(), new OffHeapArrayListTest.ObjectCodec());
+  }
+
+  private static Path newPath() {
+    try {
+      File file = File.createTempFile("mapped", ".bin");
+      file.deleteOnExit();
+      Files.delete(file.toPath());
+      return file.toPath();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private <E> MappedArrayList<E> open(Path path, Codec<E> codec) {
+    if (opened == null) {
+      opened = new java.util.ArrayList<>();
+    }
+    try {
+      MappedArrayList<E> list = MappedArrayList.open(path, codec);
+      opened.add(list);
+      return list;
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  @After
+  public void closeLists() throws IOException {
+    for (MappedArrayList<?> list : opened) {
+      list.close();
+    }
+  }
+
+  @Test
+  public void keepsItemsAcrossReopening() throws IOException {
+    /* Wraps the ring around the end of the file before growing it. */
+    for (int i = 0; i < 1000; i++) {
+      mappedList.addLast(i);
+      mappedList.addFirst(-i - 1);
+    }
+    mappedList.poll();
+    mappedList.set(42, 1);
+    mappedList.close();
+
+    MappedArrayList<Integer> reopened = open(path, Codec.INTEGER);
+    assertThat(reopened.size(), is(1999));
+    assertThat(reopened.first(), is(-999));
+    assertThat(reopened.get(1), is(42));
+    assertThat(reopened.last(), is(999));
+    for (int i = 2; i < 1999; i++) {
+      assertThat(reopened.get(i), is(i - 999));
+    }
+
+    reopened.addLast(1000);
+    reopened.close();
+    assertThat(open(path, Codec.INTEGER).last(), is(1000));
+  }
+
+  @Test
+  public void growsAsFirstInFirstOutQueue() {
+    for (int i = 0; i < 10_000; i++) {
+      mappedList.addLast(i);
+      if (i % 3 == 0) {
+        mappedList.poll();
+      }
+    }
+
+    int expected = 3334;
+    while (!mappedList.isEmpty()) {
+      assertThat(mappedList.poll(), is(expected++));
+    }
+    assertThat(expected, is(10_000));
+  }
+
+  @Test
+  public void keepsChangesOnceForced() throws IOException {
+    mappedList.add(1);
+    mappedList.add(2);
+    mappedList.force();
+
+    MappedArrayList<Integer> reopened = open(path, Codec.INTEGER);
+    assertThat(reopened.size(), is(2));
+    assertThat(reopened.last(), is(2));
+  }
+
+  @Test
+  public void sortsInPlaceAcrossReopening() throws IOException {
+    for (int i = 0; i < 500; i++) {
+      mappedList.addFirst(i * 37 % 500);
+    }
+    mappedList.sort(Integer::compare);
+    mappedList.close();
+
+    MappedArrayList<Integer> reopened = open(path, Codec.INTEGER);
+    for (int i = 0; i < 500; i++) {
+      assertThat(reopened.get(i), is(i));
+    }
+  }
+
+  @Test
+  public void rejectsCodecsOfAnotherWidth() throws IOException {
+    mappedList.close();
+
+    try {
+      MappedArrayList.open(path, Codec.LONG);
+      fail();
+    } catch (Exception e) {
+      assertTrue(e instanceof IOException);
+    }
+  }
+
+  @Test
+  public void isEmptyAndRejectsItemsAfterBeingClosed() throws IOException {
+    mappedList.add(42);
+    mappedList.close();
+
+    assertTrue(mappedList.isEmpty());
+    try {
+      mappedList.add(42);
+      fail();
+    } catch (Exception e) {
+      assertTrue(e instanceof IllegalStateException);
+    }
+  }
+
+  @Test
+  public void ignoresChangesAfterBeingClosed() throws IOException {
+    mappedList.add(42);
+    mappedList.close();
+
+    mappedList.removeAll(42);
+    mappedList.replaceAll(item -> item + 1);
+    mappedList.removeRange(0, 0);
+    mappedList.clear();
+    assertThat(mappedList.set(43, 0), is((Integer) null));
+    assertThat(mappedList.pollMany(0).size(), is(0));
+    assertTrue(mappedList.isEmpty());
+  }
+}
@@ -0,0 +1,9 @@
+package pulchritudinous.structures;
+
+public class MpmcRingQueueTest extends ConcurrentQueueTest {
+
+  @Override
+  protected ConcurrentQueue newQueue(int capacity) {
+    return new MpmcRingQueue(capacity);
+  }
+}
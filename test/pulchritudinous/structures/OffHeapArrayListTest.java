@@ -0,0 +1,91 @@
+package pulchritudinous.structures;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+
+import static junit.framework.TestCase.assertTrue;
+import static junit.framework.TestCase.fail;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+public class OffHeapArrayListTest extends ListTest {
+  private final OffHeapArrayList<Integer> offHeapList = new OffHeapArrayList<>(Codec.INTEGER);
+
+  @Override
+  protected AbstractList newEmptyList() {
+    return new OffHeapArrayList<>(new ObjectCodec());
+  }
+
+  @After
+  public void closeList() {
+    offHeapList.close();
+  }
+
+  @Test
+  public void canHoldLotsOfItems() {
+    int largeSize = 1_000_000;
+    for (int i = 0; i < largeSize; i++) {
+      offHeapList.addFirst(i);
+    }
+
+    assertThat(offHeapList.size(), is(largeSize));
+
+    for (int i = 0; i < largeSize; i++) {
+      assertThat(offHeapList.poll(), is(largeSize - i - 1));
+    }
+  }
+
+  @Test
+  public void isEmptyAndRejectsItemsAfterBeingClosed() {
+    offHeapList.add(42);
+    offHeapList.close();
+
+    assertTrue(offHeapList.isEmpty());
+    try {
+      offHeapList.add(42);
+      fail();
+    } catch (Exception e) {
+      assertTrue(e instanceof IllegalStateException);
+    }
+  }
+
+  /* Stores the short strings and integers used by ListTest in fixed-width records. */
+  static class ObjectCodec implements Codec<Object> {
+    private static final int MAX_LENGTH = 63;
+
+    @Override
+    public int width() {
+      return Integer.BYTES + MAX_LENGTH * Character.BYTES;
+    }
+
+    @Override
+    public void encode(Object item, ByteBuffer buffer, int offset) {
+      if (item instanceof Integer) {
+        buffer.putInt(offset, -1);
+        buffer.putInt(offset + Integer.BYTES, (Integer) item);
+      } else {
+        String string = (String) item;
+        buffer.putInt(offset, string.length());
+        for (int i = 0; i < string.length(); i++) {
+          buffer.putChar(offset + Integer.BYTES + i * Character.BYTES, string.charAt(i));
+        }
+      }
+    }
+
+    @Override
+    public Object decode(ByteBuffer buffer, int offset) {
+      int length = buffer.getInt(offset);
+      if (length < 0) {
+        return buffer.getInt(offset + Integer.BYTES);
+      }
+
+      char[] chars = new char[length];
+      for (int i = 0; i < length; i++) {
+        chars[i] = buffer.getChar(offset + Integer.BYTES + i * Character.BYTES);
+      }
+      return new String(chars);
+    }
+  }
+}
@@ -0,0 +1,109 @@
+package pulchritudinous.structures;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+public class PersistentVectorTest extends ListTest {
+  private final PersistentVector<String> vector = new PersistentVector<>();
+
+  @Override
+  protected AbstractList newEmptyList() {
+    return new PersistentVector();
+  }
+
+  @Test
+  public void canHoldEnoughItemsForSeveralLevels() {
+    int largeSize = 100_000;
+    for (int i = 0; i < largeSize; i++) {
+      vector.add("" + i);
+    }
+
+    assertThat(vector.size(), is(largeSize));
+    for (int i = 0; i < largeSize; i++) {
+      assertThat(vector.get(i), is("" + i));
+    }
+
+    for (int i = largeSize - 1; i >= 0; i--) {
+      assertThat(vector.last(), is("" + i));
+      vector.removeAt(i);
+    }
+    assertThat(vector.isEmpty(), is(true));
+  }
+
+  @Test
+  public void clonesDoNotSeeEachOthersChanges() {
+    for (int i = 0; i < 5_000; i++) {
+      vector.add("" + i);
+    }
+
+    PersistentVector<String> clone = vector.clone();
+    clone.set("Changed", 10);
+    clone.add("Added");
+    vector.poll();
+    vector.removeAt(4_000);
+
+    assertThat(clone.size(), is(5_001));
+    assertThat(clone.get(10), is("Changed"));
+    assertThat(clone.get(4_001), is("4001"));
+    assertThat(clone.last(), is("Added"));
+
+    assertThat(vector.size(), is(4_998));
+    assertThat(vector.first(), is("1"));
+    assertThat(vector.get(9), is("10"));
+    assertThat(vector.get(4_000), is("4002"));
+  }
+
+  @Test
+  public void agreesWithJavaUtilArrayListAcrossClones() {
+    /* Random edits, interleaved with clones that must keep the contents they were taken with. */
+    Random random = new Random(42);
+    java.util.List<String> expected = new java.util.ArrayList<>();
+    PersistentVector<String> clone = vector.clone();
+    Object[] expectedClone = {};
+
+    for (int i = 0; i < 20_000; i++) {
+      int index = random.nextInt(expected.size() + 1);
+      switch (random.nextInt(6)) {
+        case 0:
+          vector.insertAt("" + i, index);
+          expected.add(index, "" + i);
+          break;
+        case 1:
+          vector.removeAt(index);
+          if (index < expected.size()) {
+            expected.remove(index);
+          }
+          break;
+        case 2:
+          vector.poll();
+          if (!expected.isEmpty()) {
+            expected.remove(0);
+          }
+          break;
+        case 3:
+          vector.set("" + i, index);
+          if (index < expected.size()) {
+            expected.set(index, "" + i);
+          }
+          break;
+        case 4:
+          if (random.nextInt(50) == 0) {
+            assertThat(clone.toArray(), is(expectedClone));
+            clone = vector.clone();
+            expectedClone = expected.toArray();
+          }
+          break;
+        default:
+          vector.add("" + i);
+          expected.add("" + i);
+      }
+    }
+
+    assertThat(vector.toArray(), is(expected.toArray()));
+    assertThat(clone.toArray(), is(expectedClone));
+  }
+}
@@ -0,0 +1,46 @@
+package pulchritudinous.structures;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/* Installed for the whole test run by the surefire configuration, so that every test also runs the hooks. */
+public class RecordingListMetrics implements ListMetrics {
+
+  static final LongAdder RESIZES = new LongAdder();
+  static final LongAdder ITEMS_COPIED = new LongAdder();
+  static final LongAdder ITEMS_MOVED = new LongAdder();
+  static final LongAdder STEPS_WALKED = new LongAdder();
+  static final LongAdder COMPARISONS = new LongAdder();
+  static final LongAdder TEMPORARY_LISTS = new LongAdder();
+  static final LongAdder ITEMS_SCANNED = new LongAdder();
+
+  @Override
+  public void resized(int fromLength, int toLength, int itemsCopied) {
+    RESIZES.increment();
+    ITEMS_COPIED.add(itemsCopied);
+  }
+
+  @Override
+  public void moved(int items) {
+    ITEMS_MOVED.add(items);
+  }
+
+  @Override
+  public void walked(int steps) {
+    STEPS_WALKED.add(steps);
+  }
+
+  @Override
+  public void compared() {
+    COMPARISONS.increment();
+  }
+
+  @Override
+  public void allocatedTemporaryList() {
+    TEMPORARY_LISTS.increment();
+  }
+
+  @Override
+  public void scanned(int items) {
+    ITEMS_SCANNED.add(items);
+  }
+}
@@ -0,0 +1,43 @@
+package pulchritudinous.structures;
+
+import org.junit.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+public class SpscRingQueueTest extends ConcurrentQueueTest {
+
+  @Override
+  protected ConcurrentQueue newQueue(int capacity) {
+    return new SpscRingQueue(capacity);
+  }
+
+  @Override
+  protected boolean isSingleProducerSingleConsumer() {
+    return true;
+  }
+
+  @Test
+  public void keepsTheProducersOrderAcrossThreads() throws InterruptedException {
+    SpscRingQueue<Integer> queue = new SpscRingQueue<>(64);
+    int size = 1_000_000;
+
+    Thread producer = new Thread(() -> {
+      for (int i = 0; i < size; i++) {
+        while (!queue.offer(i)) {
+          Thread.yield();
+        }
+      }
+    });
+    producer.start();
+
+    for (int i = 0; i < size; i++) {
+      Integer item;
+      while ((item = queue.poll()) == null) {
+        Thread.yield();
+      }
+      assertThat(item, is(i));
+    }
+    producer.join();
+  }
+}
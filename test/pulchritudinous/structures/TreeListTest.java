@@ -0,0 +1,65 @@
+package pulchritudinous.structures;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+public class TreeListTest extends ListTest {
+  private final TreeList<String> treeList = new TreeList<>();
+
+  @Override
+  protected AbstractList newEmptyList() {
+    return new TreeList();
+  }
+
+  @Test
+  public void canHoldLotsOfItemsInsertedAtEitherEnd() {
+    int largeSize = 1_000_000;
+    for (int i = 0; i < largeSize; i++) {
+      if (i % 2 == 0) {
+        treeList.addLast("" + i);
+      } else {
+        treeList.addFirst("" + i);
+      }
+    }
+
+    assertThat(treeList.size(), is(largeSize));
+    assertThat(treeList.first(), is("" + (largeSize - 1)));
+    assertThat(treeList.get(largeSize / 2), is("0"));
+    assertThat(treeList.last(), is("" + (largeSize - 2)));
+  }
+
+  @Test
+  public void agreesWithJavaUtilArrayListUnderRandomEdits() {
+    Random random = new Random(42);
+    java.util.List<String> expected = new java.util.ArrayList<>();
+
+    for (int i = 0; i < 50_000; i++) {
+      int index = random.nextInt(expected.size() + 1);
+      switch (random.nextInt(4)) {
+        case 0:
+        case 1:
+          treeList.insertAt("" + i, index);
+          expected.add(index, "" + i);
+          break;
+        case 2:
+          treeList.removeAt(index);
+          if (index < expected.size()) {
+            expected.remove(index);
+          }
+          break;
+        default:
+          assertThat(treeList.set("" + i, index), is(index < expected.size() ? expected.set(index, "" + i) : null));
+      }
+    }
+
+    assertThat(treeList.toArray(), is(expected.toArray()));
+    assertThat(treeList.clone().toArray(), is(expected.toArray()));
+    for (int i = 0; i < expected.size(); i++) {
+      assertThat(treeList.get(i), is(expected.get(i)));
+    }
+  }
+}
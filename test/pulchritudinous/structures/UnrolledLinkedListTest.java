@@ -0,0 +1,60 @@
+package pulchritudinous.structures;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+public class UnrolledLinkedListTest extends ListTest {
+  private final UnrolledLinkedList<String> unrolledList = new UnrolledLinkedList<>();
+
+  @Override
+  protected AbstractList newEmptyList() {
+    return new UnrolledLinkedList();
+  }
+
+  @Test
+  public void agreesWithJavaUtilArrayListAcrossChunkSplitsAndMerges() {
+    Random random = new Random(42);
+    java.util.List<String> expected = new java.util.ArrayList<>();
+
+    for (int i = 0; i < 50_000; i++) {
+      int index = random.nextInt(expected.size() + 1);
+      String item = "" + random.nextInt(100);
+      switch (random.nextInt(8)) {
+        case 0:
+        case 1:
+        case 2:
+          unrolledList.insertAt(item, index);
+          expected.add(index, item);
+          break;
+        case 3:
+        case 4:
+          unrolledList.removeAt(index);
+          if (index < expected.size()) {
+            expected.remove(index);
+          }
+          break;
+        case 5:
+          assertThat(unrolledList.set(item, index), is(index < expected.size() ? expected.set(index, item) : null));
+          break;
+        case 6:
+          assertThat(unrolledList.indexOf(item), is(expected.indexOf(item)));
+          break;
+        default:
+          if (random.nextInt(100) == 0) {
+            unrolledList.removeAll(item);
+            expected.removeIf(item::equals);
+          }
+      }
+    }
+
+    assertThat(unrolledList.toArray(), is(expected.toArray()));
+    assertThat(unrolledList.clone().toArray(), is(expected.toArray()));
+    for (int i = 0; i < expected.size(); i++) {
+      assertThat(unrolledList.get(i), is(expected.get(i)));
+    }
+  }
+}